@@ -0,0 +1,102 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.benchmarks;
+
+import com.avrsandbox.jector.core.thread.AppThread;
+import com.avrsandbox.jector.core.work.WorkerTask;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the cost of a single {@link AppThread#executeTasks(Object)} pass against the number of
+ * registered tasks, the passes run on the benchmark thread (the app thread is not started).
+ *
+ * @author pavl_g
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AppThreadBenchmark {
+
+    @Param({"1", "16", "256"})
+    public int tasks;
+
+    protected AppThread appThread;
+    protected WorkerTask[] workerTasks;
+
+    @Setup
+    public void setup() {
+        appThread = new AppThread(AppThreadBenchmark.class.getName());
+        workerTasks = new WorkerTask[tasks];
+        for (int i = 0; i < tasks; i++) {
+            workerTasks[i] = new WorkerTask() {
+                @Override
+                public Object call() {
+                    return this;
+                }
+            };
+            appThread.addTask("task" + i, workerTasks[i]);
+        }
+    }
+
+    /**
+     * A pass over active tasks, each task is activated before the pass as a single run.
+     */
+    @Benchmark
+    public void activePass() {
+        for (WorkerTask task : workerTasks) {
+            task.setActive(true);
+        }
+        appThread.executeTasks(null);
+    }
+
+    /**
+     * A pass over inactive tasks, the cost of polling the registry when there is no work.
+     */
+    @Benchmark
+    public void idlePass() {
+        appThread.executeTasks(null);
+    }
+}
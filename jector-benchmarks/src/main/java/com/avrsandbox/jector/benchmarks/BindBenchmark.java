@@ -0,0 +1,90 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.benchmarks;
+
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.TaskRegistry;
+import com.avrsandbox.jector.core.work.Worker;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the cost of {@link TaskExecutorsManager#bind()} against the number of workers
+ * and the number of annotated methods per worker.
+ *
+ * @author pavl_g
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BindBenchmark {
+
+    @Param({"1", "16", "256"})
+    public int workers;
+
+    @Param({"1", "8"})
+    public int methods;
+
+    protected TaskExecutorsManager taskExecutorsManager;
+    protected PassiveTaskExecutor taskExecutor;
+
+    @Setup
+    public void setup() {
+        final Worker[] instances = new Worker[workers];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = methods == 1 ? new Workers.SingleMethodWorker() : new Workers.MultiMethodWorker();
+        }
+        taskExecutorsManager = new TaskExecutorsManager(instances);
+        taskExecutor = new PassiveTaskExecutor();
+        taskExecutorsManager.registerTaskExecutor(Workers.EXECUTOR, taskExecutor);
+    }
+
+    @Benchmark
+    public TaskRegistry bind() {
+        taskExecutor.getTasks().clear();
+        taskExecutorsManager.bind();
+        return taskExecutor.getTasks();
+    }
+}
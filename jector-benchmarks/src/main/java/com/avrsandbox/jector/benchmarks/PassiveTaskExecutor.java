@@ -0,0 +1,89 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.benchmarks;
+
+import com.avrsandbox.jector.core.work.TaskExecutor;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.TaskRegistry;
+
+/**
+ * A thread-less executor holding the bound tasks without executing them, used to benchmark
+ * the framework paths independently of the executor threads.
+ *
+ * @author pavl_g
+ */
+final class PassiveTaskExecutor implements TaskExecutor {
+
+    private final TaskRegistry tasks = new TaskRegistry();
+    private volatile boolean active = true;
+
+    @Override
+    public void startExecutorService(TaskExecutorsManager taskExecutorsManager) {
+    }
+
+    @Override
+    public void executeTasks(Object arguments) {
+    }
+
+    /**
+     * Runs the posted commands on the posting thread, as this executor owns no thread.
+     *
+     * @param command the command to run (non-nullable)
+     */
+    @Override
+    public void post(Runnable command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Nullary command is not allowed!");
+        }
+        command.run();
+    }
+
+    @Override
+    public TaskRegistry getTasks() {
+        return tasks;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return false;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
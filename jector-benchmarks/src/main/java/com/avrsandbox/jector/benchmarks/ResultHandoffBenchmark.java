@@ -0,0 +1,133 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.benchmarks;
+
+import com.avrsandbox.jector.core.thread.AppThread;
+import com.avrsandbox.jector.core.thread.BackoffIdleStrategy;
+import com.avrsandbox.jector.core.thread.BlockingIdleStrategy;
+import com.avrsandbox.jector.core.thread.BusySpinIdleStrategy;
+import com.avrsandbox.jector.core.thread.IdleStrategy;
+import com.avrsandbox.jector.core.thread.YieldingIdleStrategy;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.WorkerTask;
+import com.avrsandbox.jector.util.Tasks;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the round-trip latency of activating a task on an {@link AppThread} and receiving its
+ * result on the benchmark thread, by polling {@link Tasks#getWorkerTaskResult(TaskExecutorsManager, String, String)}
+ * and by joining the future of {@link Tasks#submit(TaskExecutorsManager, String, String)}, against posting
+ * a one-shot command via {@link AppThread#submit(java.util.concurrent.Callable)}.
+ *
+ * @author pavl_g
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResultHandoffBenchmark {
+
+    @Param({"BUSY_SPIN", "YIELDING", "BACKOFF", "BLOCKING"})
+    public String idleStrategy;
+
+    protected TaskExecutorsManager taskExecutorsManager;
+    protected AppThread appThread;
+    protected WorkerTask task;
+    protected long sequence;
+
+    @Setup
+    public void setup() {
+        appThread = new AppThread(ResultHandoffBenchmark.class.getName(), createIdleStrategy(idleStrategy));
+        appThread.setDaemon(true);
+        taskExecutorsManager = new TaskExecutorsManager(new Workers.SequenceWorker());
+        taskExecutorsManager.registerTaskExecutor(Workers.EXECUTOR, appThread);
+        taskExecutorsManager.bind();
+        appThread.setActive(true);
+        task = Tasks.getWorkerTask(taskExecutorsManager, Workers.EXECUTOR, "next");
+    }
+
+    @TearDown
+    public void tearDown() {
+        taskExecutorsManager.unregisterTaskExecutor(Workers.EXECUTOR);
+    }
+
+    @Benchmark
+    public Long pollResult() {
+        final long expected = ++sequence;
+        task.setActive(true);
+        Long result;
+        while ((result = Tasks.getWorkerTaskResult(taskExecutorsManager, Workers.EXECUTOR, "next")) == null
+                || result != expected) {
+            Thread.onSpinWait();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Long joinFuture() {
+        ++sequence;
+        return Tasks.<Long>submit(taskExecutorsManager, Workers.EXECUTOR, "next").join();
+    }
+
+    @Benchmark
+    public Long joinCommand() {
+        final long expected = ++sequence;
+        return appThread.submit(() -> expected).join();
+    }
+
+    private static IdleStrategy createIdleStrategy(String name) {
+        switch (name) {
+            case "BUSY_SPIN":
+                return new BusySpinIdleStrategy();
+            case "YIELDING":
+                return new YieldingIdleStrategy();
+            case "BLOCKING":
+                return new BlockingIdleStrategy();
+            default:
+                return new BackoffIdleStrategy();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.benchmarks;
+
+import com.avrsandbox.jector.core.command.ExecuteOn;
+import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.Worker;
+
+/**
+ * Holds the worker classes of the benchmark suites.
+ *
+ * @author pavl_g
+ */
+final class Workers {
+
+    /**
+     * The name of the executor receiving the worker methods.
+     */
+    static final String EXECUTOR = "BENCHMARK_EXECUTOR";
+
+    private Workers() {
+    }
+
+    /**
+     * A worker with a single annotated method.
+     */
+    public static class SingleMethodWorker implements Worker {
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run0(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args;
+        }
+    }
+
+    /**
+     * A worker with eight annotated methods.
+     */
+    public static class MultiMethodWorker implements Worker {
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run0(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run1(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run2(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run3(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run4(TaskExecutorsManager taskExecutorsManager) {
+            return taskExecutorsManager;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run5(TaskExecutorsManager taskExecutorsManager) {
+            return taskExecutorsManager;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run6(TaskExecutorsManager taskExecutorsManager) {
+            return taskExecutorsManager;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object run7(TaskExecutorsManager taskExecutorsManager) {
+            return taskExecutorsManager;
+        }
+    }
+
+    /**
+     * A worker invoked with and without its arguments.
+     */
+    public static class InvocationWorker implements Worker {
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object withArguments(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args;
+        }
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Object withoutArguments(TaskExecutorsManager taskExecutorsManager) {
+            return taskExecutorsManager;
+        }
+    }
+
+    /**
+     * A worker returning a sequence number per run, the sequence is only updated
+     * by the executor thread.
+     */
+    public static class SequenceWorker implements Worker {
+
+        private long sequence;
+
+        @ExecuteOn(executors = EXECUTOR)
+        public Long next(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return ++sequence;
+        }
+    }
+}
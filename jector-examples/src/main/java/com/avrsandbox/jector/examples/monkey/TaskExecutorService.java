@@ -61,18 +61,14 @@ public class TaskExecutorService implements Worker {
 
     @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.ASSET_LOADER})
     public Geometry setupSky(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
-        try {
-            SimpleApplication app = MonkeyTasks.getApplication(taskExecutorsManager, TestMonkeyTaskExecutorManager.JME_EXECUTOR);
-
-            Geometry sky = (Geometry) SkyFactory.createSky(app.getAssetManager(),
-                    app.getAssetManager().loadTexture("assets/Textures/sky.jpg"), Vector3f.UNIT_XYZ, SkyFactory.EnvMapType.EquirectMap);
-            sky.setLocalScale(0.5f);
-            sky.getMaterial().getAdditionalRenderState().setDepthFunc(RenderState.TestFunction.LessOrEqual);
-
-            return sky;
-        } finally {
-            ApplicationTasks.setSetupSceneTaskActive(taskExecutorsManager, true);
-        }
+        SimpleApplication app = MonkeyTasks.getApplication(taskExecutorsManager, TestMonkeyTaskExecutorManager.JME_EXECUTOR);
+
+        Geometry sky = (Geometry) SkyFactory.createSky(app.getAssetManager(),
+                app.getAssetManager().loadTexture("assets/Textures/sky.jpg"), Vector3f.UNIT_XYZ, SkyFactory.EnvMapType.EquirectMap);
+        sky.setLocalScale(0.5f);
+        sky.getMaterial().getAdditionalRenderState().setDepthFunc(RenderState.TestFunction.LessOrEqual);
+
+        return sky;
     }
 
     @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.JME_EXECUTOR})
@@ -90,36 +86,25 @@ public class TaskExecutorService implements Worker {
         dl.setDirection(new Vector3f(0.5f, 0.5f, 0.5f));
         dl.setColor(ColorRGBA.White);
         app.getRootNode().addLight(dl);
-
-        /* Disables this task */
-        ApplicationTasks.setSetupSceneTaskActive(taskExecutorsManager, false);
-
-        /* Activates the concurrent task */
-        ApplicationTasks.setCacheAssetTaskActive(taskExecutorsManager, true);
     }
 
     @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.ASSET_LOADER})
     public Spatial cacheAsset(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
-        try {
-            SimpleApplication app = MonkeyTasks.getApplication(taskExecutorsManager, TestMonkeyTaskExecutorManager.JME_EXECUTOR);
-            Spatial dataBaseStack = app.getAssetManager().loadModel("assets/Models/Database.j3o");
-            dataBaseStack.setLocalScale(0.6f);
-            dataBaseStack.setName("DataBaseStackModel");
-
-            Material material = new Material(app.getAssetManager(), "Common/MatDefs/Light/PBRLighting.j3md");
-            /*metalness , max is 1*/
-            material.setFloat("Metallic", 0.5f);
-            Texture texture = app.getAssetManager().loadTexture("assets/Textures/dataBaseTexture.jpg");
-            material.setTexture("BaseColorMap", texture);
-            material.setReceivesShadows(true);
-            dataBaseStack.setMaterial(material);
-
-            System.out.println("Asset-loading Thread: " + Thread.currentThread().getName());
-            return dataBaseStack;
-        } finally {
-            /* Starts the JME task to attach this asset */
-            ApplicationTasks.setAttachAssetTaskActive(taskExecutorsManager, true);
-        }
+        SimpleApplication app = MonkeyTasks.getApplication(taskExecutorsManager, TestMonkeyTaskExecutorManager.JME_EXECUTOR);
+        Spatial dataBaseStack = app.getAssetManager().loadModel("assets/Models/Database.j3o");
+        dataBaseStack.setLocalScale(0.6f);
+        dataBaseStack.setName("DataBaseStackModel");
+
+        Material material = new Material(app.getAssetManager(), "Common/MatDefs/Light/PBRLighting.j3md");
+        /*metalness , max is 1*/
+        material.setFloat("Metallic", 0.5f);
+        Texture texture = app.getAssetManager().loadTexture("assets/Textures/dataBaseTexture.jpg");
+        material.setTexture("BaseColorMap", texture);
+        material.setReceivesShadows(true);
+        dataBaseStack.setMaterial(material);
+
+        System.out.println("Asset-loading Thread: " + Thread.currentThread().getName());
+        return dataBaseStack;
     }
 
     @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.JME_EXECUTOR})
@@ -133,11 +118,6 @@ public class TaskExecutorService implements Worker {
 
         System.out.println("JME Thread: " + Thread.currentThread().getName());
         System.out.println("Task Time per frame: " + task.getTimePerFrame());
-
-        /* Disables this task */
-        ApplicationTasks.setAttachAssetTaskActive(taskExecutorsManager, false);
-        /* Activates the last task */
-        ApplicationTasks.setCameraTaskActive(taskExecutorsManager, true);
     }
 
     @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.JME_EXECUTOR})
@@ -159,34 +139,8 @@ public class TaskExecutorService implements Worker {
         chaseCamera.setDefaultHorizontalRotation(-FastMath.HALF_PI);
         chaseCamera.setHideCursorOnRotate(true);
 
-        /* Disables this task */
+        /* Releases the executors at the end of the task graph */
         taskExecutorsManager.unregisterTaskExecutor(TestMonkeyTaskExecutorManager.ASSET_LOADER);
         taskExecutorsManager.unregisterTaskExecutor(TestMonkeyTaskExecutorManager.JME_EXECUTOR);
     }
-
-    protected static class ApplicationTasks {
-        public static void setCameraTaskActive(TaskExecutorsManager taskExecutorsManager, boolean value) {
-            Tasks.getWorkerTask(taskExecutorsManager,
-                    TestMonkeyTaskExecutorManager.JME_EXECUTOR,
-                    "setupCamera").setActive(value);
-        }
-
-        public static void setAttachAssetTaskActive(TaskExecutorsManager taskExecutorsManager, boolean value) {
-            Tasks.getWorkerTask(taskExecutorsManager,
-                    TestMonkeyTaskExecutorManager.JME_EXECUTOR,
-                    "attachAsset").setActive(value);
-        }
-
-        public static void setSetupSceneTaskActive(TaskExecutorsManager taskExecutorsManager, boolean value) {
-            Tasks.getWorkerTask(taskExecutorsManager,
-                    TestMonkeyTaskExecutorManager.JME_EXECUTOR,
-                    "setupScene").setActive(value);
-        }
-
-        public static void setCacheAssetTaskActive(TaskExecutorsManager taskExecutorsManager, boolean value) {
-            Tasks.getWorkerTask(taskExecutorsManager,
-                    TestMonkeyTaskExecutorManager.ASSET_LOADER,
-                    "cacheAsset").setActive(value);
-        }
-    }
 }
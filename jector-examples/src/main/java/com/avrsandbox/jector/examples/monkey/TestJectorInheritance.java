@@ -31,46 +31,19 @@
 
 package com.avrsandbox.jector.examples.monkey;
 
-import com.avrsandbox.jector.core.command.ExecuteOn;
 import com.avrsandbox.jector.core.command.MethodArguments;
 import com.avrsandbox.jector.core.work.TaskExecutorsManager;
-import com.jme3.scene.Geometry;
-import com.jme3.scene.Spatial;
 
 /**
- * Tests the OOP abilities of Jector.
+ * Tests the OOP abilities of Jector, the annotated methods of {@link TaskExecutorService} are inherited,
+ * so that overriding a method without annotating it keeps its inherited executors.
  *
  * @author pavl_g
  */
 public class TestJectorInheritance extends TaskExecutorService {
 
     @Override
-    @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.ASSET_LOADER})
-    public Geometry setupSky(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
-        return super.setupSky(args, taskExecutorsManager);
-    }
-
-    @Override
-    @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.JME_EXECUTOR})
     public void setupScene(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
         super.setupScene(args, taskExecutorsManager);
     }
-
-    @Override
-    @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.ASSET_LOADER})
-    public Spatial cacheAsset(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
-        return super.cacheAsset(args, taskExecutorsManager);
-    }
-
-    @Override
-    @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.JME_EXECUTOR})
-    public void attachAsset(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
-        super.attachAsset(args, taskExecutorsManager);
-    }
-
-    @Override
-    @ExecuteOn(executors = {TestMonkeyTaskExecutorManager.JME_EXECUTOR})
-    public void setupCamera(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
-        super.setupCamera(args, taskExecutorsManager);
-    }
 }
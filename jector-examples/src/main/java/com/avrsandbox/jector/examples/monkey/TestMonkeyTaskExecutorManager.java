@@ -33,6 +33,7 @@ package com.avrsandbox.jector.examples.monkey;
 
 import com.avrsandbox.jector.core.command.MethodArguments;
 import com.avrsandbox.jector.core.thread.AppThread;
+import com.avrsandbox.jector.core.work.TaskGraph;
 import com.avrsandbox.jector.monkey.core.work.MonkeyTaskExecutorsManager;
 import com.avrsandbox.jector.monkey.core.work.MonkeyTaskExecutor;
 import com.avrsandbox.jector.monkey.core.work.TaskExecutorListeners;
@@ -80,11 +81,15 @@ public final class TestMonkeyTaskExecutorManager extends SimpleApplication imple
     @Override
     public void onExecutorInitialized(Application app) {
         monkeyTaskExecutorsManager.bind(new MethodArguments());
-        monkeyTaskExecutorsManager.getTaskExecutors()
-                .get(ASSET_LOADER)
-                .getTasks()
-                .get("setupSky")
-                .setActive(true);
+
+        /* Loads the assets on the asset-loader and attaches them on the JME thread */
+        TaskGraph graph = new TaskGraph();
+        TaskGraph.Node setupSky = graph.addTask(ASSET_LOADER, "setupSky");
+        TaskGraph.Node setupScene = graph.addTask(JME_EXECUTOR, "setupScene", setupSky);
+        TaskGraph.Node cacheAsset = graph.addTask(ASSET_LOADER, "cacheAsset");
+        TaskGraph.Node attachAsset = graph.addTask(JME_EXECUTOR, "attachAsset", cacheAsset);
+        graph.addTask(JME_EXECUTOR, "setupCamera", setupScene, attachAsset);
+        graph.execute(monkeyTaskExecutorsManager);
     }
 
     @Override
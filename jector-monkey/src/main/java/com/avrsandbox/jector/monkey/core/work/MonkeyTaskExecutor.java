@@ -31,16 +31,28 @@
 
 package com.avrsandbox.jector.monkey.core.work;
 
+import com.avrsandbox.jector.core.error.ErrorSink;
+import com.avrsandbox.jector.core.metrics.ExecutorMetrics;
+import com.avrsandbox.jector.core.thread.MpscQueue;
+import com.avrsandbox.jector.core.work.ActiveSet;
 import com.avrsandbox.jector.core.work.TaskExecutor;
 import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.TaskRegistry;
 import com.avrsandbox.jector.core.work.WorkerTask;
 import com.jme3.app.Application;
 import com.jme3.app.state.BaseAppState;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A base implementation of the jector {@link TaskExecutor}s to a jMonkeyEngine app state.
+ *
+ * <p> A shutdown drains the pending commands and activations over the next frames, the executor terminates on the
+ * first frame running no commands while no task has pending work (see {@link WorkerTask#hasPendingWork()}), the tasks
+ * running on every frame are not regarded as pending work, the tasks are cleaned up by the JME thread at the end of the
+ * frame, so that the tasks are never cleared while a frame is running them.
  * 
  * @author pavl_g
  */
@@ -49,13 +61,35 @@ public class MonkeyTaskExecutor extends BaseAppState implements TaskExecutor {
     /**
      * Tasks wrapping the methods to be bound to their specified annotated methods.
      */
-    protected final Map<String, WorkerTask> tasks = new ConcurrentHashMap<>();
+    protected final TaskRegistry tasks = new TaskRegistry();
 
     /**
      * A flag to order the executor for termination.
      */
     protected volatile boolean terminate;
 
+    /**
+     * A flag to order the executor for termination once its pending work is drained.
+     */
+    protected volatile boolean shutdown;
+
+    /**
+     * A latch released when the executor has terminated, and no frame is running its tasks.
+     */
+    protected final CountDownLatch termination = new CountDownLatch(1);
+
+    private final AtomicBoolean terminated = new AtomicBoolean();
+
+    /**
+     * True while the JME thread is running a frame of this executor.
+     */
+    private volatile boolean updating;
+
+    /**
+     * The JME thread running the frames of this executor.
+     */
+    private volatile Thread updateThread;
+
     /**
      * A flag to order the executor to start running.
      */
@@ -71,6 +105,49 @@ public class MonkeyTaskExecutor extends BaseAppState implements TaskExecutor {
      */
     protected TaskExecutorListeners taskExecutorListeners;
 
+    /**
+     * The frame time metrics of this executor, the busy time is the time spent running the tasks
+     * of a frame, and the idle time is the rest of the frame.
+     */
+    protected final ExecutorMetrics metrics = new ExecutorMetrics();
+
+    /**
+     * The sink reporting the failures caught by this executor.
+     */
+    protected volatile ErrorSink errorSink = ErrorSink.DEFAULT;
+
+    /**
+     * The time budget of the tasks per frame in nanoseconds, "0" to run all the active tasks on each frame.
+     */
+    protected volatile long frameBudget;
+
+    /**
+     * The index of the task to run first on the next frame, tasks deferred by an exhausted budget
+     * are resumed from this index (round-robin).
+     */
+    protected int cursor;
+
+    /**
+     * The number of active tasks deferred to the next frame by the last frame.
+     */
+    protected volatile int deferredTasks;
+
+    /**
+     * The total number of task runs deferred by exhausted frame budgets.
+     */
+    protected volatile long deferrals;
+
+
+    /**
+     * The maximum number of posted commands run per frame, the remaining commands are run on the next frames.
+     */
+    protected static final int COMMAND_BATCH_SIZE = 256;
+
+    /**
+     * The one-shot commands posted to this executor, consumed by the JME thread only.
+     */
+    protected final MpscQueue<Runnable> commands = new MpscQueue<>();
+
     /**
      * Instantiates a new instance of a task executor specialized to run on the JME thread only.
      *
@@ -89,6 +166,71 @@ public class MonkeyTaskExecutor extends BaseAppState implements TaskExecutor {
         return timePerFrame;
     }
 
+    /**
+     * Adjusts the time budget of the tasks per frame, the active tasks run in their priority order, once
+     * the budget is spent the remaining active tasks are deferred to the next frame, which runs the tasks of higher priorities
+     * first, then resumes from the first deferred task rotating within its priority (round-robin), then runs the tasks of
+     * lower priorities.
+     *
+     * <p> At least a single task runs on each frame, so a task exceeding the budget defers the other tasks
+     * but is never starved.
+     *
+     * @param milliseconds the budget per frame in milliseconds, "0" to run all the active tasks on each frame
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public void setFrameBudget(float milliseconds) {
+        if (milliseconds < 0) {
+            throw new IllegalArgumentException("Negative frame budget is not allowed!");
+        }
+        this.frameBudget = (long) (milliseconds * 1_000_000L);
+    }
+
+    /**
+     * Retrieves the time budget of the tasks per frame.
+     *
+     * @return the budget per frame in milliseconds, "0" if all the active tasks run on each frame
+     */
+    public float getFrameBudget() {
+        return frameBudget / 1_000_000f;
+    }
+
+    /**
+     * Retrieves the number of active tasks deferred to the next frame by the last frame, a
+     * non-zero value over consecutive frames indicates a backlog.
+     *
+     * @return the number of tasks deferred by the last frame
+     */
+    public int getDeferredTasks() {
+        return deferredTasks;
+    }
+
+    /**
+     * Retrieves the total number of task runs deferred by exhausted frame budgets.
+     *
+     * @return the total number of deferrals
+     */
+    public long getDeferrals() {
+        return deferrals;
+    }
+
+    /**
+     * Adjusts the sink reporting the failures caught by this executor, default is {@link ErrorSink#DEFAULT}.
+     *
+     * @param errorSink the new error sink (non-nullable)
+     * @throws IllegalArgumentException if the error sink is null
+     */
+    public void setErrorSink(ErrorSink errorSink) {
+        if (errorSink == null) {
+            throw new IllegalArgumentException("Nullary ErrorSink is not allowed!");
+        }
+        this.errorSink = errorSink;
+    }
+
+    @Override
+    public ErrorSink getErrorSink() {
+        return errorSink;
+    }
+
     /**
      * Adjusts this task executor listeners.
      *
@@ -128,12 +270,62 @@ public class MonkeyTaskExecutor extends BaseAppState implements TaskExecutor {
 
     @Override 
     public void update(float tpf) {
-        if (isTerminated()) {
-            return;
+        updating = true;
+        updateThread = Thread.currentThread();
+        try {
+            if (isTerminated()) {
+                return;
+            }
+            this.timePerFrame = tpf;
+            final long startTime = System.nanoTime();
+            /* 1) Run the posted commands */
+            final int executedCommands = executeCommands();
+            /* 2) Run Worker Method tasks */
+            executeTasks(tpf);
+            final long busyTime = System.nanoTime() - startTime;
+            metrics.recordBusy(busyTime);
+            metrics.recordIdle(Math.max((long) (tpf * 1_000_000_000L) - busyTime, 0));
+            if (shutdown && executedCommands == 0 && !hasPendingWork()) {
+                terminate();
+            }
+        } finally {
+            /* Either this thread or the terminating thread observes the termination after the frame */
+            updating = false;
+            if (isTerminated()) {
+                terminated();
+            }
         }
-        this.timePerFrame = tpf;
-        /* 2) Run Worker Method tasks */
-        executeTasks(tpf);
+    }
+
+    @Override
+    public void post(Runnable command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Nullary command is not allowed!");
+        }
+        if (isTerminated() || shutdown) {
+            throw new RejectedExecutionException(getId() + " is terminated!");
+        }
+        commands.offer(command);
+    }
+
+    /**
+     * Runs a batch of the posted commands, dispatched by the JME thread only.
+     *
+     * @return the number of commands executed by this batch
+     */
+    protected int executeCommands() {
+        return commands.drain(command -> {
+            try {
+                command.run();
+            } catch (Exception e) {
+                errorSink.report(this, e);
+            }
+        }, COMMAND_BATCH_SIZE);
+    }
+
+    @Override
+    public ExecutorMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
@@ -158,37 +350,149 @@ public class MonkeyTaskExecutor extends BaseAppState implements TaskExecutor {
 
     @Override
     public void destructExecutorService(TaskExecutorsManager taskExecutorsManager) {
+        terminate();
+        if (!updating) {
+            terminated();
+        }
+    }
+
+    @Override
+    public void shutdown(TaskExecutorsManager taskExecutorsManager) {
+        this.shutdown = true;
+        /* Disabled states are not updated, there is no frame to drain the pending work */
+        if (!isActive()) {
+            destructExecutorService(taskExecutorsManager);
+        }
+    }
+
+    /**
+     * Awaits the termination of this executor, the termination completes at the end of the frame running
+     * the tasks of this executor, if any.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if this executor has terminated, false otherwise
+     * @throws InterruptedException if the waiting thread is interrupted
+     * @throws IllegalStateException if dispatched by the JME thread, as no frame could run while it's waiting
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.currentThread() == updateThread) {
+            throw new IllegalStateException("Cannot await the termination on the application thread!");
+        }
+        return termination.await(timeout, unit);
+    }
+
+    /**
+     * Tests whether any task of this executor has pending work, dispatched by the JME thread after
+     * each frame while this executor is shut down.
+     *
+     * @return true if any task has pending work, false otherwise
+     */
+    protected boolean hasPendingWork() {
+        for (WorkerTask task : tasks.getSnapshot()) {
+            if (task.hasPendingWork()) {
+                return true;
+            }
+        }
+        return !commands.isEmpty();
+    }
+
+    /**
+     * Orders this executor for termination, and detaches it from the JME application.
+     */
+    protected void terminate() {
         this.terminate = true;
         setActive(false);
         getStateManager().detach(this);
-        TaskExecutor.super.destructExecutorService(taskExecutorsManager);
         if (taskExecutorListeners != null) {
             taskExecutorListeners.onDestructExecutorService();
         }
     }
 
+    /**
+     * Cleans up the tasks of this executor once no frame is running them, the posted commands not run
+     * yet are discarded, and the futures awaiting the pending activations are cancelled.
+     */
+    protected void terminated() {
+        if (!terminated.compareAndSet(false, true)) {
+            return;
+        }
+        commands.drain(command -> { }, Integer.MAX_VALUE);
+        for (WorkerTask task : tasks.getSnapshot()) {
+            task.cancel();
+        }
+        tasks.clear();
+        termination.countDown();
+    }
+
     @Override
     public void executeTasks(Object arguments) {
-        try {
-            for (String task : tasks.keySet()) {
-                if (tasks.get(task) == null || !tasks.get(task).isActive()) {
+        final ActiveSet activeSet = tasks.getActiveSet();
+        final WorkerTask[] snapshot = activeSet.getTasks();
+        final long frameBudget = this.frameBudget;
+        final long startTime = System.nanoTime();
+        final int start = cursor < snapshot.length ? cursor : 0;
+        /* Bounds the priority band of the first task deferred by the last frame */
+        int bandStart = start;
+        int bandEnd = start;
+        if (start < snapshot.length) {
+            final int priority = snapshot[start].getPriority();
+            while (bandStart > 0 && snapshot[bandStart - 1].getPriority() == priority) {
+                bandStart--;
+            }
+            while (bandEnd < snapshot.length && snapshot[bandEnd].getPriority() == priority) {
+                bandEnd++;
+            }
+        }
+        final int[] ranges = {0, bandStart, start, bandEnd, bandStart, start, bandEnd, snapshot.length};
+        int executed = 0;
+        int deferred = 0;
+        cursor = 0;
+        /* Visits the higher priorities, rotates the band from the deferred task (round-robin), then visits the lower priorities */
+        for (int range = 0; range < ranges.length; range += 2) {
+            final int from = ranges[range];
+            final int to = ranges[range + 1];
+            for (int index = activeSet.nextMarked(from, to); index >= 0;
+                     index = activeSet.nextMarked(index + 1, to)) {
+                final WorkerTask task = snapshot[index];
+                if (!task.isActive()) {
+                    /* Clears the mark of a deactivated task, unless it got activated again meanwhile */
+                    activeSet.clear(index);
+                    if (!task.isActive()) {
+                        continue;
+                    }
+                    activeSet.mark(index);
+                }
+                if (deferred > 0 || (frameBudget > 0 && executed > 0
+                        && System.nanoTime() - startTime >= frameBudget)) {
+                    /* The budget is spent, defers the remaining tasks to the next frame */
+                    if (deferred++ == 0) {
+                        cursor = index;
+                    }
                     continue;
                 }
-                if (!(tasks.get(task) instanceof MonkeyWorkerTask)) {
-                    throw new IllegalArgumentException("WorkerTasks must be of type: " + MonkeyWorkerTask.class.getName());
+                executed++;
+                try {
+                    if (!(task instanceof MonkeyWorkerTask)) {
+                        throw new IllegalArgumentException("WorkerTasks must be of type: " + MonkeyWorkerTask.class.getName());
+                    }
+                    MonkeyWorkerTask monkeyTask = (MonkeyWorkerTask) task;
+                    /* Invokes and Saves the result of the execution order! */
+                    monkeyTask.setTimePerFrame((float) arguments);
+                    monkeyTask.execute();
+                } catch (Exception e) {
+                    /* The failed task is supervised by its policy, the frame goes on with the other tasks */
+                    errorSink.report(task, e);
                 }
-                MonkeyWorkerTask monkeyTask = (MonkeyWorkerTask) tasks.get(task);
-                /* Invokes and Saves the result of the execution order! */
-                monkeyTask.setTimePerFrame((float) arguments);
-                monkeyTask.setResult(monkeyTask.call());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+        this.deferredTasks = deferred;
+        this.deferrals += deferred;
     }
 
     @Override
-    public Map<String, WorkerTask> getTasks() {
+    public TaskRegistry getTasks() {
         return tasks;
     }
 
@@ -31,12 +31,14 @@
 
 package com.avrsandbox.jector.monkey.core.work;
 
+import com.avrsandbox.jector.core.command.BatchArguments;
 import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.command.MethodDescriptor;
+import com.avrsandbox.jector.core.command.MethodInvoker;
 import com.avrsandbox.jector.core.work.TaskExecutorsManager;
 import com.avrsandbox.jector.core.work.Worker;
-import com.avrsandbox.jector.core.work.*;
+import com.avrsandbox.jector.core.work.WorkerTask;
 import com.jme3.app.Application;
-import java.lang.reflect.Method;
 
 /**
  * A JME-thread-safe specialized implementation of the {@link TaskExecutorsManager} for jMonkeyEngine.
@@ -88,20 +90,36 @@ public class MonkeyTaskExecutorsManager extends TaskExecutorsManager {
     }
 
     @Override
-    protected void bind(TaskExecutor taskExecutor, Worker worker, Method method,
-                                            MethodArguments args) {
-        /* binds the method invocation to the specified executor object */
-        taskExecutor.addTask(method, new MonkeyWorkerTask() {
-            @Override
-            public Object call() {
-                /* The Triple Check Pattern (No. of parameters - Input args - Types compatibility) */
-                if (method.getParameters() != null) {
-                    return executeMethod(worker, method, args, MonkeyTaskExecutorsManager.this);
-                } else {
-                    /* Force null args for non-parameterized methods */
-                    return executeMethod(worker, method, null, MonkeyTaskExecutorsManager.this);
+    protected WorkerTask createWorkerTask(Worker worker, MethodDescriptor descriptor, MethodArguments args) {
+        final MethodInvoker invoker = descriptor.getInvoker();
+        if (descriptor.isBatched()) {
+            /* Batch methods are coalesced per frame, the JME executor runs the JME tasks only */
+            return new MonkeyBatchWorkerTask(args, descriptor.getMaxBatchSize()) {
+                @Override
+                protected Object call(BatchArguments batch) throws Exception {
+                    return executeMethod(worker, invoker, batch, MonkeyTaskExecutorsManager.this);
                 }
+            };
+        }
+        if (!Resumable.class.isAssignableFrom(descriptor.getReturnType())) {
+            return createWorkerTask(worker, invoker, args);
+        }
+        /* Methods returning a resumable work are resumed across frames */
+        return new ResumableMonkeyWorkerTask() {
+            @Override
+            protected Resumable start() throws Exception {
+                return (Resumable) executeMethod(worker, invoker, pollArguments(args), MonkeyTaskExecutorsManager.this);
+            }
+        };
+    }
+
+    @Override
+    protected WorkerTask createWorkerTask(Worker worker, MethodInvoker invoker, MethodArguments args) {
+        return new MonkeyWorkerTask() {
+            @Override
+            public Object call() throws Exception {
+                return executeMethod(worker, invoker, pollArguments(args), MonkeyTaskExecutorsManager.this);
             }
-        });
+        };
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.avrsandbox.jector.monkey.core.work;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Represents a long-running work spread over several frames, worker methods returning a resumable
+ * are bound as {@link ResumableMonkeyWorkerTask}s that resume the work on each frame until it is done.
+ *
+ * <p> Each resume should do a short chunk of the work (e.g. attaching a few hundred spatials), so that
+ * the work never blocks a single frame.
+ *
+ * @author pavl_g
+ */
+@FunctionalInterface
+public interface Resumable {
+
+    /**
+     * Resumes a chunk of the work.
+     *
+     * @param timePerFrame the time-per-frame value (in seconds)
+     * @return true if the work is done, false to resume it on the next frame
+     */
+    boolean resume(float timePerFrame);
+
+    /**
+     * Creates a resumable work running an action over some elements, a chunk of elements per frame.
+     *
+     * @param <T> the type of the elements
+     * @param elements the elements to run the action for (non-nullable)
+     * @param chunkSize the maximum number of elements per frame
+     * @param action the action to run for each element (non-nullable)
+     * @return a new resumable work
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    static <T> Resumable forEach(Iterable<T> elements, int chunkSize, Consumer<? super T> action) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive!");
+        }
+        final Iterator<T> iterator = elements.iterator();
+        return timePerFrame -> {
+            for (int i = 0; i < chunkSize && iterator.hasNext(); i++) {
+                action.accept(iterator.next());
+            }
+            return !iterator.hasNext();
+        };
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.avrsandbox.jector.monkey.core.work;
+
+/**
+ * A specialized JME worker task running a {@link Resumable} work over several frames, the first run
+ * of an activation starts the work, and the following runs resume it until it's done.
+ *
+ * <p> The task stays active while its work is resumed, and it's deactivated once the work is done,
+ * the futures awaiting the activation are completed by the last run with the resumable work as their result.
+ *
+ * @author pavl_g
+ */
+public abstract class ResumableMonkeyWorkerTask extends MonkeyWorkerTask {
+
+    /**
+     * The work being resumed, "null" if no work is in progress, accessed by the
+     * executing thread only.
+     */
+    protected Resumable resumable;
+
+    /**
+     * Instantiates a JME worker task resuming its work across frames.
+     */
+    public ResumableMonkeyWorkerTask() {
+        super();
+    }
+
+    /**
+     * Starts the work of a new activation, dispatched by the first run of each activation.
+     *
+     * @return the work to resume, or null if there is no work to do
+     * @throws Exception if the work cannot be started
+     */
+    protected abstract Resumable start() throws Exception;
+
+    @Override
+    public Object call() throws Exception {
+        try {
+            if (resumable == null) {
+                resumable = start();
+            }
+            final Resumable current = resumable;
+            if (current != null && !current.resume(getTimePerFrame())) {
+                /* Resumes on the next frame, or the next pass of the executors running single runs */
+                setActive(true);
+                return current;
+            }
+            resumable = null;
+            setActive(false);
+            return current;
+        } catch (Exception e) {
+            resumable = null;
+            throw e;
+        }
+    }
+
+    @Override
+    protected boolean isCompleted() {
+        return resumable == null;
+    }
+
+    /**
+     * Tests whether a work is in progress.
+     *
+     * @return true if a work is being resumed, false otherwise
+     */
+    public boolean isResuming() {
+        return resumable != null;
+    }
+}
@@ -37,6 +37,7 @@ import com.avrsandbox.jector.monkey.core.work.MonkeyTaskExecutor;
 import com.avrsandbox.jector.monkey.core.work.MonkeyWorkerTask;
 import com.avrsandbox.jector.util.Tasks;
 import com.jme3.app.SimpleApplication;
+import java.util.concurrent.Executor;
 
 /**
  * An extension utility providing a specialization for the {@link Tasks} utility to be
@@ -99,6 +100,22 @@ public final class MonkeyTasks {
         return application;
     }
 
+    /**
+     * Retrieves an executor enqueuing its commands to the JME application thread, use it to continue
+     * on the futures of worker tasks (e.g. {@link Tasks#submit(TaskExecutorsManager, String, String)})
+     * within the JME update cycle.
+     *
+     * @param taskExecutorsManager the manager holding the registered executors (of {@link MonkeyTaskExecutorsManager} type)
+     * @param executor the name of the task-executor (as registered) (non-nullable)
+     * @return an executor running its commands on the JME application thread (non-nullable)
+     * @throws IllegalArgumentException if the taskExecutorsManager is not of type MonkeyTaskExecutorsManager
+     * @throws IllegalStateException if the JME-3 application instance is null
+     */
+    public static Executor getApplicationExecutor(TaskExecutorsManager taskExecutorsManager,
+                                                  String executor) {
+        return getApplication(taskExecutorsManager, executor)::enqueue;
+    }
+
     /**
      * Retrieves the application time-per-frame as monitored by a registered
      * JME task executor.
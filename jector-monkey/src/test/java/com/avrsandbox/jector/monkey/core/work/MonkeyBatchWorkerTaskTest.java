@@ -0,0 +1,120 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.avrsandbox.jector.monkey.core.work;
+
+import com.avrsandbox.jector.core.command.BatchArguments;
+import com.avrsandbox.jector.core.command.ExecuteOn;
+import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.Worker;
+import com.avrsandbox.jector.core.work.WorkerTask;
+import com.avrsandbox.jector.util.Tasks;
+import com.jme3.app.SimpleApplication;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests binding a batch method to a {@link MonkeyTaskExecutor}.
+ *
+ * @author pavl_g
+ */
+public class MonkeyBatchWorkerTaskTest {
+
+    /**
+     * A worker recording the sizes of its batches.
+     */
+    public static class BatchWorker implements Worker {
+
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @ExecuteOn(executors = "monkey", maxBatchSize = 4)
+        public Object process(BatchArguments batch, TaskExecutorsManager taskExecutorsManager) {
+            batchSizes.add(batch.size());
+            return batch.size();
+        }
+    }
+
+    @Test
+    public void batchMethodRunsOnMonkeyExecutor() throws Exception {
+        final SimpleApplication application = new SimpleApplication() {
+            @Override
+            public void simpleInitApp() {
+            }
+        };
+        final BatchWorker worker = new BatchWorker();
+        final MonkeyTaskExecutorsManager manager = new MonkeyTaskExecutorsManager(worker, application);
+        final MonkeyTaskExecutor executor = new MonkeyTaskExecutor("monkey");
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        executor.setErrorSink((source, error) -> errors.add(error));
+        manager.registerTaskExecutor("monkey", executor);
+
+        /* Binding is allowed on the application thread only */
+        final Thread binder = new Thread(manager::bind, "jME3 Main");
+        binder.start();
+        binder.join();
+
+        final WorkerTask task = Tasks.getWorkerTask(manager, "monkey", "process");
+        assertTrue(task instanceof MonkeyBatchWorkerTask);
+        final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(task.submit(new MethodArguments()));
+        }
+        for (int frame = 0; frame < 3; frame++) {
+            executor.update(0.016f);
+        }
+
+        assertTrue(errors.isEmpty(), () -> "Unexpected failures: " + errors);
+        assertEquals(List.of(4, 4, 2), worker.batchSizes);
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i < 8 ? 4 : 2, futures.get(i).get());
+        }
+
+        /* The drained task is deactivated rather than called with empty batches on each frame */
+        assertFalse(task.isActive());
+        executor.update(0.016f);
+        executor.update(0.016f);
+        assertEquals(List.of(4, 4, 2), worker.batchSizes);
+
+        /* An activation without arguments runs a single empty batch */
+        task.setActive(true);
+        executor.update(0.016f);
+        executor.update(0.016f);
+        assertEquals(List.of(4, 4, 2, 0), worker.batchSizes);
+        assertFalse(task.isActive());
+    }
+}
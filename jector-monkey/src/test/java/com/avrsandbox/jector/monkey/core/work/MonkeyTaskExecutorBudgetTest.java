@@ -0,0 +1,111 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.avrsandbox.jector.monkey.core.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the scan order of the tasks deferred by the frame budget of a {@link MonkeyTaskExecutor}.
+ *
+ * @author pavl_g
+ */
+public class MonkeyTaskExecutorBudgetTest {
+
+    /**
+     * The run time of a task, the budget fits two runs per frame.
+     */
+    private static final long RUN_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static MonkeyTaskExecutor createExecutor(List<String> runs, int... priorities) {
+        final MonkeyTaskExecutor executor = new MonkeyTaskExecutor("budget");
+        executor.setFrameBudget(15);
+        for (int index = 0; index < priorities.length; index++) {
+            final String name = "p" + priorities[index] + "-" + index;
+            final MonkeyWorkerTask task = new MonkeyWorkerTask() {
+                @Override
+                public Object call() {
+                    runs.add(name);
+                    final long deadline = System.nanoTime() + RUN_NANOS;
+                    while (System.nanoTime() < deadline) {
+                        LockSupport.parkNanos(RUN_NANOS / 10);
+                    }
+                    return null;
+                }
+            };
+            task.setPriority(priorities[index]);
+            task.setOrder(index);
+            executor.addTask(name, task);
+            task.setActive(true);
+        }
+        return executor;
+    }
+
+    private static List<String> runFrames(MonkeyTaskExecutor executor, List<String> runs, int frames) {
+        final List<String> frameRuns = new ArrayList<>();
+        for (int frame = 0; frame < frames; frame++) {
+            runs.clear();
+            executor.executeTasks(0.016f);
+            frameRuns.add(String.join(",", runs));
+        }
+        return frameRuns;
+    }
+
+    @Test
+    public void deferredTasksRotateWithinTheirPriorityBand() {
+        final List<String> runs = new ArrayList<>();
+        final MonkeyTaskExecutor executor = createExecutor(runs, 5, 5, 5, 1);
+        /* The lower priority task never runs ahead of a deferred task of a higher priority */
+        assertEquals(List.of("p5-0,p5-1", "p5-2,p5-0", "p5-1,p5-2", "p5-0,p5-1"), runFrames(executor, runs, 4));
+        assertEquals(2, executor.getDeferredTasks());
+    }
+
+    @Test
+    public void lowerBandRotatesBehindTheHigherPriorities() {
+        final List<String> runs = new ArrayList<>();
+        final MonkeyTaskExecutor executor = createExecutor(runs, 5, 1, 1, 1);
+        assertEquals(List.of("p5-0,p1-1", "p5-0,p1-2", "p5-0,p1-3", "p5-0,p1-1"), runFrames(executor, runs, 4));
+    }
+
+    @Test
+    public void unboundedFrameRunsAllTheTasksInScanOrder() {
+        final List<String> runs = new ArrayList<>();
+        final MonkeyTaskExecutor executor = createExecutor(runs, 1, 5, 3);
+        executor.setFrameBudget(0);
+        assertEquals(List.of("p5-1,p3-2,p1-0", "p5-1,p3-2,p1-0"), runFrames(executor, runs, 2));
+        assertEquals(0, executor.getDeferredTasks());
+    }
+}
@@ -0,0 +1,536 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor generating a {@code WorkerBinder} for each worker class declaring annotated
+ * methods with {@code ExecuteOn}, the generated binders describe the annotated methods invoking them directly,
+ * so that binding the workers requires neither scanning their methods nor reflective invocations.
+ *
+ * <p> The binders are generated in the packages of their workers, named after the binary names of
+ * the workers suffixed by "_WorkerBinder", and are registered as {@link java.util.ServiceLoader} providers.
+ *
+ * <p> The binder of a worker class describes the annotated methods inherited from its super-classes as well, the
+ * most-derived annotated declaration of a method supplies its annotation, matching the reflective binding.
+ *
+ * <p> Invalid worker methods are reported as compilation errors, workers that cannot be referenced from their
+ * packages (e.g. private nested classes) are reported as warnings and are left to the reflective binding.
+ *
+ * @author pavl_g
+ */
+@SupportedAnnotationTypes(ExecuteOnProcessor.EXECUTE_ON)
+public class ExecuteOnProcessor extends AbstractProcessor {
+
+    /**
+     * The processed annotation type.
+     */
+    protected static final String EXECUTE_ON = "com.avrsandbox.jector.core.command.ExecuteOn";
+
+    /**
+     * The annotation marking the generated binders if it's available, it's neither supported nor claimed,
+     * so that it's left to the other processors.
+     */
+    protected static final String GENERATED = "javax.annotation.processing.Generated";
+
+    /**
+     * The suffix appended to the binary name of a worker class to name its binder,
+     * must match the runtime lookup suffix.
+     */
+    protected static final String BINDER_SUFFIX = "_WorkerBinder";
+
+    private static final String WORKER = "com.avrsandbox.jector.core.work.Worker";
+    private static final String WORKER_BINDER = "com.avrsandbox.jector.core.command.WorkerBinder";
+    private static final String METHOD_DESCRIPTOR = "com.avrsandbox.jector.core.command.MethodDescriptor";
+    private static final String METHOD_ARGUMENTS = "com.avrsandbox.jector.core.command.MethodArguments";
+    private static final String ARGUMENT_LAYOUT = "com.avrsandbox.jector.core.command.ArgumentLayout";
+    private static final String TASK_EXECUTORS_MANAGER = "com.avrsandbox.jector.core.work.TaskExecutorsManager";
+
+    /**
+     * The qualified names of the generated binders, registered as service providers
+     * when the processing is over.
+     */
+    protected final Set<String> binders = new TreeSet<>();
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    /**
+     * Instantiates the processor, dispatched by the compiler.
+     */
+    public ExecuteOnProcessor() {
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceProviders();
+            return false;
+        }
+        final Map<TypeElement, List<ExecutableElement>> workers = new LinkedHashMap<>();
+        boolean claimed = false;
+        for (TypeElement annotation : annotations) {
+            if (!annotation.getQualifiedName().contentEquals(EXECUTE_ON)) {
+                continue;
+            }
+            claimed = true;
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                workers.computeIfAbsent((TypeElement) element.getEnclosingElement(), worker -> new ArrayList<>())
+                       .add((ExecutableElement) element);
+            }
+        }
+        /* Workers inheriting annotated methods without declaring any get binders as well */
+        for (TypeElement type : getTypes(roundEnv.getRootElements(), new ArrayList<>())) {
+            if (type.getKind() == ElementKind.CLASS && !workers.containsKey(type)
+                    && getAnnotatedMethods(type).size() > 0) {
+                workers.put(type, new ArrayList<>());
+            }
+        }
+        for (Map.Entry<TypeElement, List<ExecutableElement>> worker : workers.entrySet()) {
+            final List<ExecutableElement> methods = getAnnotatedMethods(worker.getKey());
+            if (!isBindable(worker.getKey(), methods)) {
+                continue;
+            }
+            try {
+                writeBinder(worker.getKey(), methods);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Cannot generate the WorkerBinder: " + e.getMessage(),
+                                      worker.getKey());
+            }
+        }
+        /* Claims the processed annotation only, so that it's not reported as unclaimed */
+        return claimed;
+    }
+
+    /**
+     * Collects the types declared by some elements including their nested types.
+     *
+     * @param elements the elements declaring the types (e.g. the root elements of a round)
+     * @param types the list to collect the types to
+     * @return the list of the collected types
+     */
+    private List<TypeElement> getTypes(Iterable<? extends Element> elements, List<TypeElement> types) {
+        for (TypeElement type : ElementFilter.typesIn(elements)) {
+            types.add(type);
+            getTypes(type.getEnclosedElements(), types);
+        }
+        return types;
+    }
+
+    /**
+     * Resolves the annotated methods of a worker class including the ones inherited from its super-classes,
+     * the most-derived annotated declaration of a method wins, and the private methods of the super-classes are skipped.
+     *
+     * @param worker the worker class
+     * @return the annotated methods of the worker class, the methods declared by the class come first
+     */
+    protected List<ExecutableElement> getAnnotatedMethods(TypeElement worker) {
+        final List<ExecutableElement> methods = new ArrayList<>();
+        final Set<String> signatures = new HashSet<>();
+        for (TypeElement type = worker; type != null; type = getSuperclass(type)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (getAnnotationValue(method, "executors") == null
+                        || (type != worker && method.getModifiers().contains(Modifier.PRIVATE))) {
+                    continue;
+                }
+                final StringBuilder signature = new StringBuilder(method.getSimpleName());
+                for (VariableElement parameter : method.getParameters()) {
+                    signature.append(',').append(types.erasure(parameter.asType()));
+                }
+                if (signatures.add(signature.toString())) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Retrieves the super-class of a class.
+     *
+     * @param type the class
+     * @return the super-class, or null if the class extends {@link Object} directly
+     */
+    private TypeElement getSuperclass(TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        final TypeElement superType = (TypeElement) types.asElement(superclass);
+        return superType.getQualifiedName().contentEquals(Object.class.getName()) ? null : superType;
+    }
+
+    /**
+     * Validates a worker class and its annotated methods, reporting the invalid methods as errors.
+     *
+     * @param worker the worker class
+     * @param methods the annotated methods of the worker class including the inherited ones
+     * @return true if a binder could be generated for the worker class, false otherwise
+     */
+    protected boolean isBindable(TypeElement worker, List<ExecutableElement> methods) {
+        boolean bindable = true;
+        for (ExecutableElement method : methods) {
+            bindable &= isBindable(method);
+        }
+        final TypeElement workerType = elements.getTypeElement(WORKER);
+        if (workerType != null && !types.isAssignable(types.erasure(worker.asType()), types.erasure(workerType.asType()))) {
+            messager.printMessage(Diagnostic.Kind.WARNING, worker.getSimpleName() + " declares @ExecuteOn methods " +
+                                  "but is not a " + WORKER + ", no binder is generated!", worker);
+            return false;
+        }
+        final Element workerPackage = elements.getPackageOf(worker);
+        for (ExecutableElement method : methods) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                    && !elements.getPackageOf(method).equals(workerPackage)) {
+                messager.printMessage(Diagnostic.Kind.WARNING, method.getSimpleName() + "(...) is inaccessible from " +
+                                      worker.getSimpleName() + ", it will be bound reflectively!", worker);
+                return false;
+            }
+        }
+        for (Element element = worker; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final TypeElement type = (TypeElement) element;
+            if (type.getModifiers().contains(Modifier.PRIVATE) || type.getNestingKind() == NestingKind.LOCAL
+                    || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                messager.printMessage(Diagnostic.Kind.WARNING, worker.getSimpleName() + " is inaccessible from " +
+                                      "its package, it will be bound reflectively!", worker);
+                return false;
+            }
+        }
+        return bindable;
+    }
+
+    /**
+     * Validates an annotated method against the signatures [Object method(MethodArguments, TaskExecutorsManager)]
+     * or [Object method(TaskExecutorsManager)], reporting an invalid method as an error.
+     *
+     * @param method the annotated method
+     * @return true if the method is valid, false otherwise
+     */
+    protected boolean isBindable(ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, method.getSimpleName() + "(...) cannot be private!", method);
+            return false;
+        }
+        final List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.size() != 1 && parameters.size() != 2) {
+            messager.printMessage(Diagnostic.Kind.ERROR, method.getSimpleName() + "(...) parameters count must be 2", method);
+            return false;
+        }
+        boolean bindable = true;
+        if (parameters.size() == 2) {
+            bindable = isRelated(method, parameters.get(0), METHOD_ARGUMENTS);
+        }
+        return bindable & isRelated(method, parameters.get(parameters.size() - 1), TASK_EXECUTORS_MANAGER);
+    }
+
+    /**
+     * Tests whether a method parameter type is related to a jector type (a super-type or a sub-type of it),
+     * reporting an unrelated parameter as an error.
+     *
+     * @param method the annotated method
+     * @param parameter the parameter to validate
+     * @param type the qualified name of the jector type
+     * @return true if the types are related, or if the jector type is not on the classpath, false otherwise
+     */
+    private boolean isRelated(ExecutableElement method, VariableElement parameter, String type) {
+        final TypeElement typeElement = elements.getTypeElement(type);
+        if (typeElement == null) {
+            return true;
+        }
+        final TypeMirror expected = types.erasure(typeElement.asType());
+        final TypeMirror actual = types.erasure(parameter.asType());
+        if (types.isAssignable(expected, actual) || types.isAssignable(actual, expected)) {
+            return true;
+        }
+        messager.printMessage(Diagnostic.Kind.ERROR, method.getSimpleName() + "(...) parameter " +
+                              parameter.getSimpleName() + " is not of " + type + " Type!", parameter);
+        return false;
+    }
+
+    /**
+     * Generates the binder source file of a validated worker class.
+     *
+     * @param worker the worker class
+     * @param methods the annotated methods of the worker class including the inherited ones
+     * @throws IOException if the source file cannot be written
+     */
+    protected void writeBinder(TypeElement worker, List<ExecutableElement> methods) throws IOException {
+        final String packageName = elements.getPackageOf(worker).getQualifiedName().toString();
+        final String binaryName = elements.getBinaryName(worker).toString();
+        final String binderName = binaryName + BINDER_SUFFIX;
+        final String binderSimpleName = packageName.isEmpty() ? binderName : binderName.substring(packageName.length() + 1);
+        final String workerType = types.erasure(worker.asType()).toString();
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        if (elements.getTypeElement(GENERATED) != null) {
+            source.append("@").append(GENERATED).append("(\"").append(getClass().getName()).append("\")\n");
+        }
+        source.append("public final class ").append(binderSimpleName).append(" implements ").append(WORKER_BINDER).append(" {\n\n");
+        source.append("    private static final ").append(METHOD_DESCRIPTOR).append("[] DESCRIPTORS = {\n");
+        for (ExecutableElement method : methods) {
+            final List<String> executors = getStringValues(method, "executors");
+            if (executors.isEmpty()) {
+                continue;
+            }
+            writeDescriptor(source, workerType, method, executors);
+        }
+        source.append("    };\n\n");
+        source.append("    @Override\n");
+        source.append("    public Class<? extends ").append(WORKER).append("> getWorkerClass() {\n");
+        source.append("        return ").append(workerType).append(".class;\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public ").append(METHOD_DESCRIPTOR).append("[] getMethodDescriptors() {\n");
+        source.append("        return DESCRIPTORS;\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        final JavaFileObject file = filer.createSourceFile(binderName, worker);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+        binders.add(binderName);
+    }
+
+    /**
+     * Appends the descriptor of an annotated method to the descriptors table, the descriptor
+     * invokes the method directly through a lambda expression.
+     *
+     * @param source the binder source
+     * @param workerType the canonical name of the worker class
+     * @param method the annotated method
+     * @param executors the names of the task executors of the method
+     */
+    private void writeDescriptor(StringBuilder source, String workerType, ExecutableElement method, List<String> executors) {
+        final List<? extends VariableElement> parameters = method.getParameters();
+        source.append("        new ").append(METHOD_DESCRIPTOR).append("(")
+              .append(elements.getConstantExpression(method.getSimpleName().toString())).append(",\n");
+        source.append("                new String[] {");
+        for (int i = 0; i < executors.size(); i++) {
+            source.append(i > 0 ? ", " : "").append(elements.getConstantExpression(executors.get(i)));
+        }
+        source.append("},\n");
+        source.append("                new Class<?>[] {");
+        for (int i = 0; i < parameters.size(); i++) {
+            source.append(i > 0 ? ", " : "").append(types.erasure(parameters.get(i).asType())).append(".class");
+        }
+        source.append("},\n");
+        source.append("                ").append(types.erasure(method.getReturnType())).append(".class,\n");
+
+        /* Direct invocation of the worker method */
+        final StringBuilder invocation = new StringBuilder();
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            invocation.append(workerType);
+        } else {
+            invocation.append("((").append(workerType).append(") worker)");
+        }
+        invocation.append(".").append(method.getSimpleName()).append("(");
+        if (parameters.size() == 2) {
+            invocation.append(cast(parameters.get(0), METHOD_ARGUMENTS)).append("args, ");
+        }
+        invocation.append(cast(parameters.get(parameters.size() - 1), TASK_EXECUTORS_MANAGER)).append("manager)");
+
+        source.append("                (worker, args, manager) -> ");
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            source.append("{\n");
+            source.append("                    ").append(invocation).append(";\n");
+            source.append("                    return null;\n");
+            source.append("                },\n");
+        } else {
+            source.append(invocation).append(",\n");
+        }
+        source.append("                ").append(getIntValue(method, "priority")).append(", ")
+              .append(getIntValue(method, "order")).append(", ")
+              .append(getIntValue(method, "maxBatchSize"));
+        /* The declared slots are resolved once when the binder class is initialized */
+        final List<String> slots = getStringValues(method, "slots");
+        if (!slots.isEmpty()) {
+            source.append(",\n                new ").append(ARGUMENT_LAYOUT).append("(");
+            for (int i = 0; i < slots.size(); i++) {
+                source.append(i > 0 ? ", " : "").append(elements.getConstantExpression(slots.get(i)));
+            }
+            source.append(")");
+        }
+        source.append("),\n");
+    }
+
+    /**
+     * Retrieves a cast expression to a parameter type if it differs from the passed jector type.
+     *
+     * @param parameter the method parameter
+     * @param type the qualified name of the passed jector type
+     * @return a cast expression, or an empty string if no cast is required
+     */
+    private String cast(VariableElement parameter, String type) {
+        final String parameterType = types.erasure(parameter.asType()).toString();
+        if (parameterType.equals(type)) {
+            return "";
+        }
+        return "(" + parameterType + ") ";
+    }
+
+    /**
+     * Retrieves a string array attribute of the annotation of a method (e.g. the task executors names)
+     * from its annotation mirror.
+     *
+     * @param method the annotated method
+     * @param name the name of the attribute
+     * @return a list of the string values of the attribute
+     */
+    private List<String> getStringValues(ExecutableElement method, String name) {
+        final List<String> values = new ArrayList<>();
+        final AnnotationValue value = getAnnotationValue(method, name);
+        if (value == null) {
+            return values;
+        }
+        final Object arrayValue = value.getValue();
+        if (arrayValue instanceof List) {
+            for (Object element : (List<?>) arrayValue) {
+                values.add((String) ((AnnotationValue) element).getValue());
+            }
+        } else {
+            values.add((String) arrayValue);
+        }
+        return values;
+    }
+
+    /**
+     * Retrieves an int attribute of the annotation of a method (e.g. the priority).
+     *
+     * @param method the annotated method
+     * @param name the name of the attribute
+     * @return the value of the attribute
+     */
+    private int getIntValue(ExecutableElement method, String name) {
+        return (Integer) getAnnotationValue(method, name).getValue();
+    }
+
+    /**
+     * Retrieves the value of an attribute of the annotation of a method, falling back
+     * to the default value of the attribute if it's not specified.
+     *
+     * @param method the annotated method
+     * @param name the name of the attribute
+     * @return the value of the attribute, or null if it's neither specified nor defaulted
+     */
+    private AnnotationValue getAnnotationValue(ExecutableElement method, String name) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(EXECUTE_ON)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value :
+                    elements.getElementValuesWithDefaults(annotation).entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals(name)) {
+                    return value.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers the generated binders as service providers of the WorkerBinder service.
+     */
+    private void writeServiceProviders() {
+        if (binders.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                                                         "META-INF/services/" + WORKER_BINDER);
+            try (Writer writer = file.openWriter()) {
+                for (String binder : binders) {
+                    writer.write(binder);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Cannot register the WorkerBinders: " + e.getMessage());
+        }
+    }
+}
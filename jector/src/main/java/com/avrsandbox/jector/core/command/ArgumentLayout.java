@@ -0,0 +1,119 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Describes the named slots of {@link TypedMethodArguments}, a layout is built once and shared by
+ * the arguments objects of a method, the names are resolved into slot indices once (e.g. when the method is bound)
+ * via {@link ArgumentLayout#getSlot(String)}, so that no hashed lookup occurs on the argument accesses.
+ *
+ * <p> The layout of a method declaring its slots via {@link ExecuteOn#slots()} is built when the method is
+ * described, layouts of the same names in the same order are equal.
+ *
+ * @author pavl_g
+ */
+public final class ArgumentLayout {
+
+    private final String[] names;
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    /**
+     * Instantiates a layout of named slots, the slots are indexed in the order of their names.
+     *
+     * @param names the names of the slots (non-nullable and unique)
+     * @throws IllegalArgumentException if a name is null, or if a name is duplicated
+     */
+    public ArgumentLayout(String... names) {
+        if (names == null) {
+            throw new IllegalArgumentException("Nullary slot names are not allowed!");
+        }
+        this.names = Arrays.copyOf(names, names.length);
+        for (int slot = 0; slot < names.length; slot++) {
+            if (names[slot] == null) {
+                throw new IllegalArgumentException("Nullary slot name is not allowed!");
+            }
+            if (slots.putIfAbsent(names[slot], slot) != null) {
+                throw new IllegalArgumentException(names[slot] + " slot is already defined!");
+            }
+        }
+    }
+
+    /**
+     * Resolves the index of a named slot, resolve the slots once and keep their indices
+     * rather than resolving them on each access.
+     *
+     * @param name the name of the slot
+     * @return the index of the slot
+     * @throws IllegalArgumentException if the slot is not found
+     */
+    public int getSlot(String name) {
+        final Integer slot = slots.get(name);
+        if (slot == null) {
+            throw new IllegalArgumentException(name + " slot is not found!");
+        }
+        return slot;
+    }
+
+    /**
+     * Retrieves the name of a slot.
+     *
+     * @param slot the index of the slot
+     * @return the name of the slot
+     * @throws IndexOutOfBoundsException if the slot is out of the layout range
+     */
+    public String getName(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * Retrieves the number of slots of this layout.
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object == this || object instanceof ArgumentLayout && Arrays.equals(names, ((ArgumentLayout) object).names);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(names);
+    }
+}
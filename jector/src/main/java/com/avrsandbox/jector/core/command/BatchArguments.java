@@ -0,0 +1,130 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a batch of method arguments coalesced from the pending activations of a batch task, an annotated
+ * method accepting a batch should be of the signature [Object method(BatchArguments, TaskExecutorsManager)].
+ *
+ * <p> The map of arguments of a batch is the map of the arguments passed on binding, while the
+ * arguments of each activation are retrieved via {@link BatchArguments#get(int)}, a batch object is reused
+ * by its task across the runs, so the bound method shouldn't keep a reference to it.
+ *
+ * @author pavl_g
+ */
+public class BatchArguments extends MethodArguments {
+
+    /**
+     * The arguments of the coalesced activations, in their activation order.
+     */
+    protected final List<MethodArguments> batch = new ArrayList<>();
+
+    /**
+     * Instantiates an empty batch with an empty map of bound arguments.
+     */
+    public BatchArguments() {
+        super();
+    }
+
+    /**
+     * Instantiates an empty batch wrapping the bound arguments.
+     *
+     * @param boundArguments the arguments passed on binding, or null for an empty map
+     */
+    public BatchArguments(MethodArguments boundArguments) {
+        super(boundArguments != null && boundArguments.getArgs() != null ?
+              boundArguments.getArgs() : new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Appends the arguments of an activation to this batch, dispatched by the batch task.
+     *
+     * @param arguments the arguments of an activation
+     */
+    public void add(MethodArguments arguments) {
+        batch.add(arguments);
+    }
+
+    /**
+     * Clears this batch, dispatched by the batch task after each run.
+     */
+    public void clear() {
+        batch.clear();
+    }
+
+    /**
+     * Retrieves the arguments of an activation from this batch.
+     *
+     * @param index the index of the activation in this batch
+     * @return the arguments of the activation
+     * @throws IndexOutOfBoundsException if the index is out of the batch range
+     */
+    public MethodArguments get(int index) {
+        return batch.get(index);
+    }
+
+    /**
+     * Retrieves the map of arguments of an activation from this batch.
+     *
+     * @param index the index of the activation in this batch
+     * @return the map of arguments of the activation
+     * @throws IndexOutOfBoundsException if the index is out of the batch range
+     */
+    public Map<String, Object> getArgs(int index) {
+        return batch.get(index).getArgs();
+    }
+
+    /**
+     * Retrieves the number of the coalesced activations, "0" if the task is activated
+     * without arguments via {@link com.avrsandbox.jector.core.work.WorkerTask#setActive(boolean)}.
+     *
+     * @return the size of this batch
+     */
+    public int size() {
+        return batch.size();
+    }
+
+    /**
+     * Retrieves a read-only view of the coalesced activations.
+     *
+     * @return a read-only list of the arguments of the activations
+     */
+    public List<MethodArguments> getBatch() {
+        return Collections.unmodifiableList(batch);
+    }
+}
@@ -59,4 +59,38 @@ public @interface ExecuteOn {
      * @return an array of task-executors name representing the registered task-executors
      */
     String[] executors();
+
+    /**
+     * Specifies the priority of the bound tasks within their executors, executors scan their tasks
+     * from the highest priority to the lowest, so that latency-critical tasks (e.g. input handling) run before
+     * bulk work on each pass or frame.
+     *
+     * @return the priority of the bound tasks, "0" by default
+     */
+    int priority() default 0;
+
+    /**
+     * Specifies an explicit order of the bound tasks among the tasks of the same priority, tasks
+     * run in an ascending order, tasks of the same priority and order run in their binding order.
+     *
+     * @return the order of the bound tasks, "0" by default
+     */
+    int order() default 0;
+
+    /**
+     * Specifies the maximum number of pending activations coalesced into a single call of a batch method,
+     * applicable to the methods of the signature [Object method(BatchArguments, TaskExecutorsManager)] only.
+     *
+     * @return the maximum batch size, {@link MethodDescriptor#DEFAULT_MAX_BATCH_SIZE} by default
+     */
+    int maxBatchSize() default MethodDescriptor.DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Specifies the named slots of the {@link TypedMethodArguments} accepted by the method, the slots are resolved
+     * into an {@link ArgumentLayout} once when the method is described, and are indexed in their declaration order,
+     * so that the method reads its arguments by constant indices, the arguments passed to the method must be of an
+     * equal layout.
+     * @return the names of the slots, empty by default for the methods accepting untyped arguments
+     */
+    String[] slots() default {};
 }
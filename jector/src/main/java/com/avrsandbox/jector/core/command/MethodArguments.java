@@ -31,27 +31,50 @@
 package com.avrsandbox.jector.core.command;
 
 import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents generic method arguments for an annotated method with
  * the annotation {@link ExecuteOn}.
+ *
+ * <p> Arguments are kept in a concurrent map boxing the primitive values, use {@link TypedMethodArguments}
+ * for allocation-free primitive arguments accessed by their precompiled slots, the map of empty initialized
+ * arguments is allocated on its first retrieval, so that arguments never using it (e.g. typed arguments) allocate no map.
  * 
  * @author pavl_g
  */
 public class MethodArguments {
 
+    private static final VarHandle ARGS;
+
+    /**
+     * Marks the map of empty initialized arguments not retrieved yet.
+     */
+    private static final Map<String, Object> DEFERRED = Collections.unmodifiableMap(Collections.emptyMap());
+
+    static {
+        try {
+            ARGS = MethodHandles.lookup().findVarHandle(MethodArguments.class, "args", Map.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
-     * A map of generic objects to be passed to the bound method.
+     * A map of generic objects to be passed to the bound method, an empty read-only map for the empty
+     * initialized arguments until its first retrieval via {@link MethodArguments#getArgs()}.
      */
     protected Map<String, Object> args;
 
     /**
-     * For empty initialization.
+     * For empty initialization, the map of arguments is allocated on its first retrieval.
      */
     public MethodArguments() {
-        this.args = new ConcurrentHashMap<>();
+        this.args = DEFERRED;
     }
 
     /**
@@ -70,8 +93,16 @@ public class MethodArguments {
      * 
      * @return a map of objects representing the method parameters
      */
+    @SuppressWarnings("unchecked")
     public Map<String, Object> getArgs() {
-        return args;
+        final Map<String, Object> args = this.args;
+        if (args != DEFERRED) {
+            return args;
+        }
+        /* Allocates the map once, the map allocated by a concurrent retrieval takes precedence */
+        final Map<String, Object> allocated = new ConcurrentHashMap<>();
+        final Map<String, Object> witness = (Map<String, Object>) ARGS.compareAndExchange(this, DEFERRED, allocated);
+        return witness == DEFERRED ? allocated : witness;
     }
 
     /**
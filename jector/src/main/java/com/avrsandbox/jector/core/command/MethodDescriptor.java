@@ -0,0 +1,325 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.util.Validator;
+
+/**
+ * Describes an annotated method with the annotation {@link ExecuteOn}, a descriptor is built once
+ * when the method is bound holding the precomputed signature of the method and its resolved {@link MethodInvoker},
+ * so that no signature checking occurs on task executions.
+ *
+ * <p> The annotated methods should be of the signatures [Object method(MethodArguments, TaskExecutorsManager)]
+ * or [Object method(TaskExecutorsManager)], where the return type could be any type including void, methods of the
+ * signature [Object method(BatchArguments, TaskExecutorsManager)] are bound as batch tasks.
+ *
+ * @author pavl_g
+ */
+public class MethodDescriptor {
+
+    /**
+     * The default maximum number of activations coalesced into a single call of a batch method.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    /**
+     * The name of the method, used as the name of its bound tasks.
+     */
+    protected final String name;
+
+    /**
+     * The names of the task executors to bind this method to.
+     */
+    protected final String[] executors;
+
+    /**
+     * The precomputed parameter types of the method.
+     */
+    protected final Class<?>[] parameterTypes;
+
+    /**
+     * The return type of the method.
+     */
+    protected final Class<?> returnType;
+
+    /**
+     * The resolved invoker of the method.
+     */
+    protected final MethodInvoker invoker;
+
+    /**
+     * The priority of the bound tasks as specified by {@link ExecuteOn#priority()}.
+     */
+    protected final int priority;
+
+    /**
+     * The order of the bound tasks as specified by {@link ExecuteOn#order()}.
+     */
+    protected final int order;
+
+    /**
+     * The maximum batch size of the bound tasks as specified by {@link ExecuteOn#maxBatchSize()}.
+     */
+    protected final int maxBatchSize;
+
+    /**
+     * The layout of the slots declared by {@link ExecuteOn#slots()}, resolved once when the method is described,
+     * "null" if the method declares no slots.
+     */
+    protected final ArgumentLayout layout;
+
+    /**
+     * Instantiates a method descriptor with the default priority and order.
+     *
+     * @param name the name of the method (non-nullable)
+     * @param executors the names of the task executors to bind this method to (non-nullable)
+     * @param parameterTypes the parameter types of the method (non-nullable)
+     * @param returnType the return type of the method (non-nullable)
+     * @param invoker the resolved invoker of the method (non-nullable)
+     */
+    public MethodDescriptor(String name, String[] executors, Class<?>[] parameterTypes,
+                            Class<?> returnType, MethodInvoker invoker) {
+        this(name, executors, parameterTypes, returnType, invoker, 0, 0);
+    }
+
+    /**
+     * Instantiates a method descriptor.
+     *
+     * @param name the name of the method (non-nullable)
+     * @param executors the names of the task executors to bind this method to (non-nullable)
+     * @param parameterTypes the parameter types of the method (non-nullable)
+     * @param returnType the return type of the method (non-nullable)
+     * @param invoker the resolved invoker of the method (non-nullable)
+     * @param priority the priority of the bound tasks
+     * @param order the order of the bound tasks among the tasks of the same priority
+     */
+    public MethodDescriptor(String name, String[] executors, Class<?>[] parameterTypes,
+                            Class<?> returnType, MethodInvoker invoker, int priority, int order) {
+        this(name, executors, parameterTypes, returnType, invoker, priority, order, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Instantiates a method descriptor.
+     *
+     * @param name the name of the method (non-nullable)
+     * @param executors the names of the task executors to bind this method to (non-nullable)
+     * @param parameterTypes the parameter types of the method (non-nullable)
+     * @param returnType the return type of the method (non-nullable)
+     * @param invoker the resolved invoker of the method (non-nullable)
+     * @param priority the priority of the bound tasks
+     * @param order the order of the bound tasks among the tasks of the same priority
+     * @param maxBatchSize the maximum batch size of the bound tasks, applicable to batch methods only
+     */
+    public MethodDescriptor(String name, String[] executors, Class<?>[] parameterTypes, Class<?> returnType,
+                            MethodInvoker invoker, int priority, int order, int maxBatchSize) {
+        this(name, executors, parameterTypes, returnType, invoker, priority, order, maxBatchSize, null);
+    }
+
+    /**
+     * Instantiates a method descriptor.
+     *
+     * @param name the name of the method (non-nullable)
+     * @param executors the names of the task executors to bind this method to (non-nullable)
+     * @param parameterTypes the parameter types of the method (non-nullable)
+     * @param returnType the return type of the method (non-nullable)
+     * @param invoker the resolved invoker of the method (non-nullable)
+     * @param priority the priority of the bound tasks
+     * @param order the order of the bound tasks among the tasks of the same priority
+     * @param maxBatchSize the maximum batch size of the bound tasks, applicable to batch methods only
+     * @param layout the layout of the slots declared by the method, or null if no slots are declared
+     */
+    public MethodDescriptor(String name, String[] executors, Class<?>[] parameterTypes, Class<?> returnType,
+                            MethodInvoker invoker, int priority, int order, int maxBatchSize, ArgumentLayout layout) {
+        this.name = name;
+        this.executors = executors;
+        this.parameterTypes = parameterTypes;
+        this.returnType = returnType;
+        this.invoker = invoker;
+        this.priority = priority;
+        this.order = order;
+        this.maxBatchSize = maxBatchSize;
+        this.layout = layout;
+    }
+
+    /**
+     * Validates the precomputed signature of the method against the types of the objects
+     * to be passed on invocation, batch methods are validated against {@link BatchArguments}.
+     *
+     * @param argumentsType the type of the method arguments to be passed to the method
+     * @param managerType the type of the task-executors manager to be passed to the method
+     * @throws IllegalArgumentException if the method signature doesn't accept the specified types
+     */
+    public void validate(Class<? extends MethodArguments> argumentsType,
+                         Class<? extends TaskExecutorsManager> managerType) {
+        Validator.validateWorkerMethod(name, parameterTypes, isBatched() ? BatchArguments.class : argumentsType,
+                                       managerType);
+    }
+
+    /**
+     * Validates the arguments to be passed to the method against the layout of its declared slots, a
+     * cheap check dispatched on each bind, as the slots are resolved once when the method is described.
+     *
+     * @param arguments the method arguments to be passed to the method, or null for nullary bindings
+     * @throws IllegalArgumentException if the method declares slots, and the arguments are not
+     *                                  {@link TypedMethodArguments} of an equal layout
+     */
+    public void validateLayout(MethodArguments arguments) {
+        if (layout == null || arguments == null || isBatched()) {
+            return;
+        }
+        if (!(arguments instanceof TypedMethodArguments) || !layout.equals(((TypedMethodArguments) arguments).getLayout())) {
+            throw new IllegalArgumentException(name + "(...) arguments don't match its declared slots!");
+        }
+    }
+
+    /**
+     * Validates the arguments of an activation against the arguments type and the declared slots of the method,
+     * dispatched by the tasks of the method when activated with their own arguments, so that mismatched arguments
+     * fail the activating caller rather than the run serving the activation.
+     *
+     * @param arguments the arguments of the activation (non-nullable)
+     * @throws IllegalArgumentException if the method doesn't accept the arguments
+     */
+    public void validateArguments(MethodArguments arguments) {
+        final Class<?> argumentsType = getArgumentsType();
+        if (argumentsType != null && !argumentsType.isInstance(arguments)) {
+            throw new IllegalArgumentException(name + "(...) doesn't accept " + arguments.getClass().getName() + " arguments!");
+        }
+        validateLayout(arguments);
+    }
+
+    /**
+     * Tests whether the method accepts a {@link MethodArguments} parameter.
+     *
+     * @return true if the method is parameterized, false otherwise
+     */
+    public boolean isParameterized() {
+        return parameterTypes.length == 2;
+    }
+
+    /**
+     * Tests whether the method accepts a {@link BatchArguments} parameter, batch methods are bound
+     * as {@link com.avrsandbox.jector.core.work.BatchWorkerTask}s.
+     *
+     * @return true if the method is a batch method, false otherwise
+     */
+    public boolean isBatched() {
+        return parameterTypes.length == 2 && parameterTypes[0] == BatchArguments.class;
+    }
+
+    /**
+     * Retrieves the type of the arguments accepted by the method, batch methods coalesce the arguments
+     * of their activations into a {@link BatchArguments}, and accept activations of any arguments type.
+     *
+     * @return the type of the arguments accepted by the method, "null" for the methods accepting no arguments
+     */
+    public Class<?> getArgumentsType() {
+        if (!isParameterized()) {
+            return null;
+        }
+        return isBatched() ? MethodArguments.class : parameterTypes[0];
+    }
+
+    /**
+     * Retrieves the name of the method.
+     *
+     * @return the name of the method
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the names of the task executors to bind this method to.
+     *
+     * @return an array of task-executors names
+     */
+    public String[] getExecutors() {
+        return executors;
+    }
+
+    /**
+     * Retrieves the return type of the method.
+     *
+     * @return the return type of the method
+     */
+    public Class<?> getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * Retrieves the resolved invoker of the method.
+     *
+     * @return the method invoker
+     */
+    public MethodInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Retrieves the priority of the bound tasks.
+     *
+     * @return the priority of the bound tasks
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Retrieves the order of the bound tasks among the tasks of the same priority.
+     *
+     * @return the order of the bound tasks
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Retrieves the maximum number of activations coalesced into a single call of a batch method.
+     *
+     * @return the maximum batch size of the bound tasks
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Retrieves the layout of the slots declared by the method, the slots are indexed in their
+     * declaration order, use the layout to instantiate the {@link TypedMethodArguments} passed to the method.
+     *
+     * @return the layout of the declared slots, "null" if the method declares no slots
+     */
+    public ArgumentLayout getLayout() {
+        return layout;
+    }
+}
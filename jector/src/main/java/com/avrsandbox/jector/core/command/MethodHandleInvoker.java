@@ -0,0 +1,91 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.Worker;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link MethodInvoker} implementation backed by a {@link MethodHandle}, the handle is resolved
+ * once on instantiation, so that invocations don't pay the reflective access checks.
+ *
+ * <p> The resolved methods should be validated beforehand by their {@link MethodDescriptor}s.
+ *
+ * @author pavl_g
+ */
+public class MethodHandleInvoker implements MethodInvoker {
+
+    /**
+     * The unified type of the adapted method handles.
+     */
+    protected static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Worker.class,
+                                                                           MethodArguments.class, TaskExecutorsManager.class);
+
+    /**
+     * The method handle adapted to the {@link MethodHandleInvoker#INVOKER_TYPE}.
+     */
+    protected final MethodHandle methodHandle;
+
+    /**
+     * Instantiates an invoker resolving a method handle to the specified method.
+     *
+     * @param method the annotated method to resolve, of a validated signature
+     * @throws IllegalArgumentException if the method is inaccessible
+     */
+    public MethodHandleInvoker(Method method) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(method.getName() + "(...) is inaccessible!", e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            /* Ignores the worker instance for static methods */
+            handle = MethodHandles.dropArguments(handle, 0, Worker.class);
+        }
+        if (method.getParameterCount() == 1) {
+            /* Ignores the method arguments for non-parameterized methods */
+            handle = MethodHandles.dropArguments(handle, 1, MethodArguments.class);
+        }
+        this.methodHandle = handle.asType(INVOKER_TYPE);
+    }
+
+    @Override
+    public Object invoke(Worker worker, MethodArguments args, TaskExecutorsManager taskExecutorsManager) throws Throwable {
+        return (Object) methodHandle.invokeExact(worker, args, taskExecutorsManager);
+    }
+}
@@ -0,0 +1,224 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import java.util.Arrays;
+
+/**
+ * Represents method arguments stored in the indexed slots of an {@link ArgumentLayout}, primitive arguments
+ * are stored unboxed, so that an arguments object could be reused across runs (e.g. frames) without allocations.
+ *
+ * <p> Slots are accessed by their indices as resolved via {@link ArgumentLayout#getSlot(String)}, each slot holds
+ * either a primitive value or a reference, the primitive accessors of a slot must match the type written to it.
+ * The map-based arguments of {@link MethodArguments#getArgs()} are kept apart from the slots for compatibility,
+ * and are allocated only if retrieved.
+ *
+ * <p> Methods declaring their slots via {@link ExecuteOn#slots()} own an {@link ArgumentLayout} resolved once
+ * when the method is described, the slots are indexed in their declaration order, so that the method reads its
+ * arguments by constant indices, and the arguments passed to the method must be of an equal layout.
+ *
+ * <p> An arguments object is not thread-safe, it should be written by a single thread before activating
+ * the task, the activation of the task publishes the written arguments to the executor thread.
+ *
+ * @author pavl_g
+ */
+public class TypedMethodArguments extends MethodArguments {
+
+    /**
+     * The layout of the slots of these arguments.
+     */
+    protected final ArgumentLayout layout;
+
+    /**
+     * The primitive slots, floating-point values are stored as their raw bits.
+     */
+    protected final long[] primitives;
+
+    /**
+     * The reference slots.
+     */
+    protected final Object[] references;
+
+    /**
+     * Instantiates typed method arguments with empty slots.
+     *
+     * @param layout the layout of the slots (non-nullable)
+     * @throws IllegalArgumentException if the layout is null
+     */
+    public TypedMethodArguments(ArgumentLayout layout) {
+        if (layout == null) {
+            throw new IllegalArgumentException("Nullary ArgumentLayout is not allowed!");
+        }
+        this.layout = layout;
+        this.primitives = new long[layout.size()];
+        this.references = new Object[layout.size()];
+    }
+
+    /**
+     * Writes an int value to a slot.
+     *
+     * @param slot the index of the slot
+     * @param value the value to write
+     */
+    public void setInt(int slot, int value) {
+        primitives[slot] = value;
+    }
+
+    /**
+     * Reads an int value from a slot.
+     *
+     * @param slot the index of the slot
+     * @return the value of the slot
+     */
+    public int getInt(int slot) {
+        return (int) primitives[slot];
+    }
+
+    /**
+     * Writes a long value to a slot.
+     *
+     * @param slot the index of the slot
+     * @param value the value to write
+     */
+    public void setLong(int slot, long value) {
+        primitives[slot] = value;
+    }
+
+    /**
+     * Reads a long value from a slot.
+     *
+     * @param slot the index of the slot
+     * @return the value of the slot
+     */
+    public long getLong(int slot) {
+        return primitives[slot];
+    }
+
+    /**
+     * Writes a float value to a slot.
+     *
+     * @param slot the index of the slot
+     * @param value the value to write
+     */
+    public void setFloat(int slot, float value) {
+        primitives[slot] = Float.floatToRawIntBits(value);
+    }
+
+    /**
+     * Reads a float value from a slot.
+     *
+     * @param slot the index of the slot
+     * @return the value of the slot
+     */
+    public float getFloat(int slot) {
+        return Float.intBitsToFloat((int) primitives[slot]);
+    }
+
+    /**
+     * Writes a double value to a slot.
+     *
+     * @param slot the index of the slot
+     * @param value the value to write
+     */
+    public void setDouble(int slot, double value) {
+        primitives[slot] = Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Reads a double value from a slot.
+     *
+     * @param slot the index of the slot
+     * @return the value of the slot
+     */
+    public double getDouble(int slot) {
+        return Double.longBitsToDouble(primitives[slot]);
+    }
+
+    /**
+     * Writes a boolean value to a slot.
+     *
+     * @param slot the index of the slot
+     * @param value the value to write
+     */
+    public void setBoolean(int slot, boolean value) {
+        primitives[slot] = value ? 1L : 0L;
+    }
+
+    /**
+     * Reads a boolean value from a slot.
+     *
+     * @param slot the index of the slot
+     * @return the value of the slot
+     */
+    public boolean getBoolean(int slot) {
+        return primitives[slot] != 0L;
+    }
+
+    /**
+     * Writes a reference to a slot.
+     *
+     * @param slot the index of the slot
+     * @param value the reference to write
+     */
+    public void setObject(int slot, Object value) {
+        references[slot] = value;
+    }
+
+    /**
+     * Reads a reference from a slot.
+     *
+     * @param slot the index of the slot
+     * @param <T> the type of the reference
+     * @return the reference of the slot, or null if no reference is written
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(int slot) {
+        return (T) references[slot];
+    }
+
+    /**
+     * Clears all the slots, releasing the written references.
+     */
+    public void clear() {
+        Arrays.fill(primitives, 0L);
+        Arrays.fill(references, null);
+    }
+
+    /**
+     * Retrieves the layout of the slots of these arguments.
+     *
+     * @return the layout of the slots
+     */
+    public ArgumentLayout getLayout() {
+        return layout;
+    }
+}
@@ -0,0 +1,62 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import com.avrsandbox.jector.core.work.Worker;
+
+/**
+ * Provides compile-time generated {@link MethodDescriptor}s of a {@link Worker} class, so that binding
+ * the worker requires neither scanning its methods nor reflective invocations.
+ *
+ * <p> Binders are generated by the jector annotation processor for each worker class declaring annotated
+ * methods with {@link ExecuteOn}, a generated binder is named after the binary name of its worker class
+ * suffixed by {@link WorkerBinders#BINDER_SUFFIX}, and is registered as a {@link java.util.ServiceLoader} provider.
+ *
+ * @author pavl_g
+ */
+public interface WorkerBinder {
+
+    /**
+     * Retrieves the worker class described by this binder.
+     *
+     * @return the worker class
+     */
+    Class<? extends Worker> getWorkerClass();
+
+    /**
+     * Retrieves the descriptors of the annotated methods declared by the worker class,
+     * the descriptors invoke their methods directly.
+     *
+     * @return an array of method descriptors
+     */
+    MethodDescriptor[] getMethodDescriptors();
+}
@@ -0,0 +1,84 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Looks up the compile-time generated {@link WorkerBinder}s of the worker classes, a binder is
+ * looked up once per worker class.
+ *
+ * @author pavl_g
+ */
+public final class WorkerBinders {
+
+    /**
+     * The suffix appended to the binary name of a worker class to name its generated binder.
+     */
+    public static final String BINDER_SUFFIX = "_WorkerBinder";
+
+    private static final ClassValue<Optional<WorkerBinder>> binders = new ClassValue<>() {
+        @Override
+        protected Optional<WorkerBinder> computeValue(Class<?> type) {
+            final String binderName = type.getName() + BINDER_SUFFIX;
+            try {
+                return ServiceLoader.load(WorkerBinder.class, type.getClassLoader())
+                                    .stream()
+                                    .filter(provider -> provider.type().getName().equals(binderName))
+                                    .findFirst()
+                                    .map(ServiceLoader.Provider::get)
+                                    .filter(binder -> binder.getWorkerClass() == type);
+            } catch (ServiceConfigurationError e) {
+                /* Falls back to the reflective binding */
+                return Optional.empty();
+            }
+        }
+    };
+
+    /**
+     * Private-access to inhibit instantiation.
+     */
+    private WorkerBinders() {
+    }
+
+    /**
+     * Retrieves the generated binder of a worker class.
+     *
+     * @param workerClass the worker class (non-nullable)
+     * @return the generated binder of the worker class, or null if no binder is generated for that class
+     */
+    public static WorkerBinder getWorkerBinder(Class<?> workerClass) {
+        return binders.get(workerClass).orElse(null);
+    }
+}
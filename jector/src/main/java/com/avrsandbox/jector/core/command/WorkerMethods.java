@@ -0,0 +1,143 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import com.avrsandbox.jector.util.Validator;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves the annotated methods of the worker classes for the reflective binding, the methods of
+ * a worker class are resolved once per class over its class hierarchy, so that binding many workers of
+ * the same class scans the class once.
+ *
+ * <p> The {@link MethodDescriptor}s of a worker class are built once per class together with their
+ * {@link MethodHandleInvoker}s, and are shared by all the binds, so that binding the Nth worker of a class costs
+ * the validation of the descriptors against the bound arguments via {@link MethodDescriptor#validate(Class, Class)} only.
+ *
+ * <p> Annotated methods are inherited from the super-classes, the most-derived annotated declaration of a method
+ * supplies its {@link ExecuteOn} annotation, while overriding a method without annotating it keeps the inherited annotation.
+ *
+ * @author pavl_g
+ */
+public final class WorkerMethods {
+
+    private static final ClassValue<List<Method>> annotatedMethods = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            final List<Method> methods = new ArrayList<>();
+            final Set<String> signatures = new HashSet<>();
+            for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    /* Private methods of the super-classes are not inherited */
+                    if (method.isSynthetic() || (clazz != type && Modifier.isPrivate(method.getModifiers()))) {
+                        continue;
+                    }
+                    final ExecuteOn annotation = method.getAnnotation(ExecuteOn.class);
+                    if (annotation == null || annotation.executors().length < 1) {
+                        continue;
+                    }
+                    if (signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                        methods.add(method);
+                    }
+                }
+            }
+            return List.copyOf(methods);
+        }
+    };
+
+    private static final ClassValue<List<MethodDescriptor>> methodDescriptors = new ClassValue<>() {
+        @Override
+        protected List<MethodDescriptor> computeValue(Class<?> type) {
+            final List<Method> methods = annotatedMethods.get(type);
+            final MethodDescriptor[] descriptors = new MethodDescriptor[methods.size()];
+            for (int index = 0; index < descriptors.length; index++) {
+                descriptors[index] = createMethodDescriptor(methods.get(index));
+            }
+            return List.of(descriptors);
+        }
+    };
+
+    /**
+     * Private-access to inhibit instantiation.
+     */
+    private WorkerMethods() {
+    }
+
+    /**
+     * Retrieves the annotated methods of a worker class including the inherited ones, the methods
+     * declared by the class come first.
+     *
+     * @param workerClass the worker class (non-nullable)
+     * @return a read-only list of the annotated methods with non-empty {@link ExecuteOn#executors()}
+     */
+    public static List<Method> getAnnotatedMethods(Class<?> workerClass) {
+        return annotatedMethods.get(workerClass);
+    }
+
+    /**
+     * Retrieves the descriptors of the annotated methods of a worker class, built once per class with their
+     * resolved invokers, the descriptors should be validated against the bound arguments on each bind.
+     *
+     * @param workerClass the worker class (non-nullable)
+     * @return a read-only list of the descriptors of the annotated methods, in the order of {@link WorkerMethods#getAnnotatedMethods(Class)}
+     * @throws IllegalArgumentException if a method is of an invalid parameters count, or if a method is inaccessible
+     */
+    public static List<MethodDescriptor> getMethodDescriptors(Class<?> workerClass) {
+        return methodDescriptors.get(workerClass);
+    }
+
+    /**
+     * Describes an annotated method, resolving its invoker and the layout of its declared slots.
+     *
+     * @param method the annotated method to describe
+     * @return a new method descriptor
+     * @throws IllegalArgumentException if the method is of an invalid parameters count, or if the method is inaccessible
+     */
+    private static MethodDescriptor createMethodDescriptor(Method method) {
+        final ExecuteOn annotation = method.getAnnotation(ExecuteOn.class);
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        /* The parameter types are validated on each bind, the invoker adapts the methods of one or two parameters only */
+        if (parameterTypes.length != 1) {
+            Validator.validateParametersLength(method.getName(), parameterTypes, 2);
+        }
+        final ArgumentLayout layout = annotation.slots().length > 0 ? new ArgumentLayout(annotation.slots()) : null;
+        return new MethodDescriptor(method.getName(), annotation.executors(), parameterTypes,
+                                    method.getReturnType(), new MethodHandleInvoker(method),
+                                    annotation.priority(), annotation.order(), annotation.maxBatchSize(), layout);
+    }
+}
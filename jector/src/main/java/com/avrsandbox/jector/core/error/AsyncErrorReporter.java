@@ -0,0 +1,290 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.error;
+
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An error sink deduplicating the failures by their source, type and throwing frame, and printing them
+ * on a daemon reporter thread, so that the reporting threads never do blocking I/O.
+ *
+ * <p> The first failure of each kind is printed with its stack trace, the repeated failures are counted and
+ * summarized once per interval, and the stack traces printed per interval are bounded by a rate limit, the
+ * failures beyond the limit are deferred to the next intervals.
+ *
+ * <p> This is the default sink of the executors, the reporter thread is started by the first reported
+ * failure, and the pending reports are flushed on the shutdown of the JVM.
+ *
+ * @author pavl_g
+ */
+public class AsyncErrorReporter implements ErrorSink {
+
+    /**
+     * The default reporting interval in nanoseconds.
+     */
+    public static final long DEFAULT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The default maximum number of the stack traces printed per interval.
+     */
+    public static final int DEFAULT_MAX_TRACES = 10;
+
+    /**
+     * The default maximum number of the distinct failures tracked at a time.
+     */
+    public static final int DEFAULT_MAX_KEYS = 1024;
+
+    /**
+     * The stream printing the reports.
+     */
+    protected final PrintStream out;
+
+    /**
+     * The reporting interval in nanoseconds.
+     */
+    protected final long intervalNanos;
+
+    /**
+     * The maximum number of the stack traces printed per interval.
+     */
+    protected final int maxTraces;
+
+    /**
+     * The maximum number of the distinct failures tracked at a time.
+     */
+    protected final int maxKeys;
+
+    /**
+     * The tracked failures by their kind.
+     */
+    protected final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The total number of the reported failures.
+     */
+    protected final AtomicLong failures = new AtomicLong();
+
+    /**
+     * The number of the failures dropped as their kinds exceed the maximum number of the tracked failures.
+     */
+    protected final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread reporter;
+    private long windowStart;
+    private int windowTraces;
+
+    /**
+     * Instantiates a reporter printing to the standard error stream with the default parameters.
+     */
+    public AsyncErrorReporter() {
+        this(System.err, DEFAULT_INTERVAL_NANOS, TimeUnit.NANOSECONDS, DEFAULT_MAX_TRACES, DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * Instantiates an asynchronous error reporter.
+     *
+     * @param out the stream printing the reports (non-nullable)
+     * @param interval the reporting interval
+     * @param unit the time unit of the interval
+     * @param maxTraces the maximum number of the stack traces printed per interval
+     * @param maxKeys the maximum number of the distinct failures tracked at a time
+     * @throws IllegalArgumentException if the stream is null, or if the interval or any of the limits is not positive
+     */
+    public AsyncErrorReporter(PrintStream out, long interval, TimeUnit unit, int maxTraces, int maxKeys) {
+        if (out == null) {
+            throw new IllegalArgumentException("Nullary PrintStream is not allowed!");
+        }
+        if (interval < 1 || maxTraces < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("Interval and limits must be positive!");
+        }
+        this.out = out;
+        this.intervalNanos = unit.toNanos(interval);
+        this.maxTraces = maxTraces;
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public void report(Object source, Throwable error) {
+        if (error == null) {
+            return;
+        }
+        failures.incrementAndGet();
+        final StackTraceElement[] trace = error.getStackTrace();
+        final Key key = new Key(source, error.getClass(), trace.length > 0 ? trace[0] : null);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= maxKeys) {
+                dropped.incrementAndGet();
+                start();
+                return;
+            }
+            final Entry created = new Entry(source, error);
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                /* Prints a new kind of failures without waiting for the interval */
+                start();
+                LockSupport.unpark(reporter);
+                return;
+            }
+        }
+        entry.count.incrementAndGet();
+    }
+
+    /**
+     * Prints the pending reports on the calling thread, dispatched by the reporter thread once per interval,
+     * the kinds of failures not repeated since the last flush are no longer tracked.
+     */
+    public synchronized void flush() {
+        final long now = System.nanoTime();
+        if (now - windowStart >= intervalNanos) {
+            windowStart = now;
+            windowTraces = 0;
+        }
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            final Entry entry = iterator.next();
+            final long count = entry.count.get();
+            if (!entry.printed) {
+                if (windowTraces >= maxTraces) {
+                    /* Rate limited, defers the stack trace to the next intervals */
+                    continue;
+                }
+                windowTraces++;
+                entry.printed = true;
+                entry.reported = 1;
+                out.println("Jector: " + entry.source + " failed!");
+                entry.error.printStackTrace(out);
+            }
+            if (count > entry.reported) {
+                out.println("Jector: " + entry.source + " failed " + (count - entry.reported)
+                        + " more times with " + entry.error);
+                entry.reported = count;
+            } else if (!entry.fresh) {
+                iterator.remove();
+            }
+            entry.fresh = false;
+        }
+        final long dropped = this.dropped.getAndSet(0);
+        if (dropped > 0) {
+            out.println("Jector: " + dropped + " failures are dropped, too many distinct failures!");
+        }
+        out.flush();
+    }
+
+    /**
+     * Retrieves the total number of the reported failures.
+     *
+     * @return the number of the failures reported to this sink
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Starts the reporter thread once, and registers a shutdown hook flushing the pending reports.
+     */
+    private void start() {
+        if (started.get() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        final Thread reporter = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(this, intervalNanos);
+                flush();
+            }
+        }, "Jector-ErrorReporter");
+        reporter.setDaemon(true);
+        this.reporter = reporter;
+        reporter.start();
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "Jector-ErrorReporter-Shutdown"));
+        } catch (IllegalStateException e) {
+            /* The JVM is already shutting down, the reports are flushed by the reporter thread meanwhile */
+        }
+    }
+
+    /**
+     * Identifies a kind of failures by its source, its type and its throwing frame.
+     */
+    protected static final class Key {
+
+        private final Object source;
+        private final Class<?> type;
+        private final StackTraceElement frame;
+
+        private Key(Object source, Class<?> type, StackTraceElement frame) {
+            this.source = source;
+            this.type = type;
+            this.frame = frame;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) object;
+            return source == key.source && type == key.type && Objects.equals(frame, key.frame);
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(source) * 31 + type.hashCode()) * 31 + Objects.hashCode(frame);
+        }
+    }
+
+    /**
+     * Counts the failures of a kind, the reporting state is accessed by the flushing thread only.
+     */
+    protected static final class Entry {
+
+        private final Object source;
+        private final Throwable error;
+        private final AtomicLong count = new AtomicLong(1);
+        private long reported;
+        private boolean printed;
+        private boolean fresh = true;
+
+        private Entry(Object source, Throwable error) {
+            this.source = source;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.error;
+
+/**
+ * Represents the destination of the failures caught by the executors, e.g. the failed runs of the
+ * {@link com.avrsandbox.jector.core.work.WorkerTask}s and the failed commands.
+ *
+ * <p> Sinks are dispatched by the executor threads, implementations must not block, so that a failing
+ * task never stalls its executor (e.g. the rendering thread) on I/O.
+ *
+ * @author pavl_g
+ */
+@FunctionalInterface
+public interface ErrorSink {
+
+    /**
+     * The default sink, reporting the failures asynchronously via a shared {@link AsyncErrorReporter}.
+     */
+    ErrorSink DEFAULT = new AsyncErrorReporter();
+
+    /**
+     * Discards the failures.
+     */
+    ErrorSink DISCARDING = (source, error) -> { };
+
+    /**
+     * Reports a caught failure.
+     *
+     * @param source the failed entity, e.g. the failed task or the executor running the failed command
+     * @param error the caught failure
+     */
+    void report(Object source, Throwable error);
+}
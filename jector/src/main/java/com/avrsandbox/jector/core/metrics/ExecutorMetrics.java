@@ -0,0 +1,89 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the busy and the idle time of a task executor.
+ *
+ * <p> Executors running their own loop (e.g. the app threads) record both, executors dispatching
+ * their tasks to thread pools record the busy time of the task runs only, as the idle time belongs to the pool.
+ *
+ * @author pavl_g
+ */
+public final class ExecutorMetrics implements ExecutorMetricsMXBean {
+
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder idleNanos = new LongAdder();
+
+    /**
+     * Records a time span spent running tasks.
+     *
+     * @param nanos the busy time in nanoseconds
+     */
+    public void recordBusy(long nanos) {
+        busyNanos.add(nanos);
+    }
+
+    /**
+     * Records a time span spent waiting for tasks.
+     *
+     * @param nanos the idle time in nanoseconds
+     */
+    public void recordIdle(long nanos) {
+        idleNanos.add(nanos);
+    }
+
+    @Override
+    public long getBusyNanos() {
+        return busyNanos.sum();
+    }
+
+    @Override
+    public long getIdleNanos() {
+        return idleNanos.sum();
+    }
+
+    @Override
+    public double getUtilization() {
+        final long busy = getBusyNanos();
+        final long total = busy + getIdleNanos();
+        return total == 0 ? Double.NaN : (double) busy / total;
+    }
+
+    @Override
+    public void reset() {
+        busyNanos.reset();
+        idleNanos.reset();
+    }
+}
@@ -0,0 +1,198 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.metrics;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free log-linear histogram of latencies in nanoseconds, each power of two is divided
+ * into {@link LatencyHistogram#SUB_BUCKETS} linear buckets, so that a recorded value is reported within
+ * 12.5% of its actual value over the whole positive range of a long.
+ *
+ * <p> Recording a value is a constant time operation with no allocation, the percentiles are computed
+ * on retrieval, the buckets are allocated by the first recorded value, so that histograms never
+ * recorded (e.g. the metrics of the tasks that never run) cost no buckets.
+ *
+ * @author pavl_g
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * The number of linear buckets per power of two.
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final VarHandle COUNTS;
+
+    static {
+        try {
+            COUNTS = MethodHandles.lookup().findVarHandle(LatencyHistogram.class, "counts", AtomicLongArray.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile AtomicLongArray counts;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency value, negative values are recorded as zero.
+     *
+     * @param nanos the latency value in nanoseconds
+     */
+    public void record(long nanos) {
+        final long value = Math.max(nanos, 0);
+        AtomicLongArray counts = this.counts;
+        if (counts == null) {
+            counts = allocateCounts();
+        }
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Retrieves the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Retrieves the maximum recorded value.
+     *
+     * @return the maximum recorded value in nanoseconds, "0" if no values are recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retrieves the mean of the recorded values.
+     *
+     * @return the mean of the recorded values in nanoseconds, "0" if no values are recorded
+     */
+    public double getMean() {
+        final long count = getCount();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    /**
+     * Retrieves the value at a percentile of the recorded values, the value is reported as the
+     * highest value of its bucket capped by the maximum recorded value.
+     *
+     * @param percentile the percentile in the range [0, 100]
+     * @return the value at the percentile in nanoseconds, "0" if no values are recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        final AtomicLongArray counts = this.counts;
+        if (counts == null) {
+            return 0;
+        }
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final double clamped = Math.min(Math.max(percentile, 0), 100);
+        final long rank = Math.max(1, (long) Math.ceil(clamped / 100 * count));
+        long accumulated = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            accumulated += snapshot[i];
+            if (accumulated >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears the recorded values, values recorded concurrently with a reset could be partially cleared.
+     */
+    public void reset() {
+        final AtomicLongArray counts = this.counts;
+        if (counts != null) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0);
+            }
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * Allocates the buckets once, the buckets allocated by a concurrent recording take precedence.
+     *
+     * @return the allocated buckets
+     */
+    private AtomicLongArray allocateCounts() {
+        final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        final AtomicLongArray witness = (AtomicLongArray) COUNTS.compareAndExchange(this, null, counts);
+        return witness == null ? counts : witness;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        final long lowest = ((long) SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+        return lowest + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,142 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the execution metrics of a worker task: the number of runs and failures, the execution
+ * time of the runs, and the delay between activating the task and starting its run.
+ *
+ * @author pavl_g
+ */
+public final class TaskMetrics implements TaskMetricsMXBean {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram executionTime = new LatencyHistogram();
+    private final LatencyHistogram activationDelay = new LatencyHistogram();
+
+    /**
+     * Records a completed run of the task.
+     *
+     * @param nanos the execution time of the run in nanoseconds
+     * @param failed true if the run has failed, false otherwise
+     */
+    public void recordExecution(long nanos, boolean failed) {
+        invocations.increment();
+        if (failed) {
+            errors.increment();
+        }
+        executionTime.record(nanos);
+    }
+
+    /**
+     * Records the delay between activating the task and starting its run.
+     *
+     * @param nanos the activation delay in nanoseconds
+     */
+    public void recordActivationDelay(long nanos) {
+        activationDelay.record(nanos);
+    }
+
+    /**
+     * Retrieves the histogram of the execution time of the task runs.
+     *
+     * @return the execution time histogram
+     */
+    public LatencyHistogram getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * Retrieves the histogram of the delay between activating the task and starting its run.
+     *
+     * @return the activation delay histogram
+     */
+    public LatencyHistogram getActivationDelay() {
+        return activationDelay;
+    }
+
+    @Override
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getExecutionNanosMean() {
+        return executionTime.getMean();
+    }
+
+    @Override
+    public long getExecutionNanosP50() {
+        return executionTime.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getExecutionNanosP99() {
+        return executionTime.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getExecutionNanosMax() {
+        return executionTime.getMax();
+    }
+
+    @Override
+    public long getActivationDelayNanosP50() {
+        return activationDelay.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getActivationDelayNanosP99() {
+        return activationDelay.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getActivationDelayNanosMax() {
+        return activationDelay.getMax();
+    }
+
+    @Override
+    public void reset() {
+        invocations.reset();
+        errors.reset();
+        executionTime.reset();
+        activationDelay.reset();
+    }
+}
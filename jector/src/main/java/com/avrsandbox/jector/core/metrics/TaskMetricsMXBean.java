@@ -0,0 +1,109 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.metrics;
+
+/**
+ * The management interface of the {@link TaskMetrics} of a worker task, latencies
+ * are reported in nanoseconds.
+ *
+ * @author pavl_g
+ */
+public interface TaskMetricsMXBean {
+
+    /**
+     * Retrieves the number of runs of the task.
+     *
+     * @return the number of runs
+     */
+    long getInvocations();
+
+    /**
+     * Retrieves the number of failed runs of the task.
+     *
+     * @return the number of failed runs
+     */
+    long getErrors();
+
+    /**
+     * Retrieves the mean execution time of the task runs.
+     *
+     * @return the mean execution time in nanoseconds
+     */
+    double getExecutionNanosMean();
+
+    /**
+     * Retrieves the median execution time of the task runs.
+     *
+     * @return the median execution time in nanoseconds
+     */
+    long getExecutionNanosP50();
+
+    /**
+     * Retrieves the 99th percentile of the execution time of the task runs.
+     *
+     * @return the 99th percentile of the execution time in nanoseconds
+     */
+    long getExecutionNanosP99();
+
+    /**
+     * Retrieves the maximum execution time of the task runs.
+     *
+     * @return the maximum execution time in nanoseconds
+     */
+    long getExecutionNanosMax();
+
+    /**
+     * Retrieves the median delay between activating the task and starting its run.
+     *
+     * @return the median activation delay in nanoseconds
+     */
+    long getActivationDelayNanosP50();
+
+    /**
+     * Retrieves the 99th percentile of the delay between activating the task and starting its run.
+     *
+     * @return the 99th percentile of the activation delay in nanoseconds
+     */
+    long getActivationDelayNanosP99();
+
+    /**
+     * Retrieves the maximum delay between activating the task and starting its run.
+     *
+     * @return the maximum activation delay in nanoseconds
+     */
+    long getActivationDelayNanosMax();
+
+    /**
+     * Clears the recorded metrics.
+     */
+    void reset();
+}
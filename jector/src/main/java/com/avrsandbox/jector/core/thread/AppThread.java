@@ -31,11 +31,17 @@
 
 package com.avrsandbox.jector.core.thread;
 
+import com.avrsandbox.jector.core.error.ErrorSink;
+import com.avrsandbox.jector.core.metrics.ExecutorMetrics;
+import com.avrsandbox.jector.core.work.ActiveSet;
 import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.TaskRegistry;
 import com.avrsandbox.jector.core.work.WorkerTask;
 import com.avrsandbox.jector.core.work.TaskExecutor;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Represents the base implementation of a task executor that provides the thread-based implementation, the dependent (receiver)
@@ -45,42 +51,188 @@ import java.util.concurrent.ConcurrentHashMap;
  * are submitted as {@link WorkerTask}s to be executed on the specified implementations of the {@link com.avrsandbox.jector.core.work.TaskExecutor},
  * the task executors are specified by annotating their names in the array {@link com.avrsandbox.jector.core.command.ExecuteOn#executors()}.
  *
+ * <p> Whenever a pass over the tasks yields no work, or whenever the executor is inactive, the thread consults
+ * its {@link IdleStrategy}, the thread is signalled when the executor or one of its tasks is activated.
+ *
+ * <p> One-shot commands posted via {@link AppThread#post(Runnable)} are queued on a lock-free queue, and are run
+ * in batches before each pass over the tasks.
+ *
+ * <p> Periodic runs of the tasks are scheduled via {@link AppThread#scheduleAtFixedRate(String, long, long, TimeUnit)}
+ * and {@link AppThread#scheduleWithFixedDelay(String, long, long, TimeUnit)} on a deadline heap owned by this thread,
+ * while a deadline is pending, the thread idles until the earliest deadline at most, instead of spinning over it.
+ *
+ * <p> A shutdown via {@link AppThread#shutdown(TaskExecutorsManager)} drains the pending commands and activations
+ * before the thread exits, the thread cleans up its tasks on exit, so that the tasks are never cleared while a pass is
+ * iterating them, and {@link AppThread#awaitTermination(long, TimeUnit)} joins the thread.
+ *
  * @author pavl_g
  */
 public class AppThread extends Thread implements TaskExecutor {
 
     /**
-     * A Thread-Safe modifiable map of tasks wrapping the methods to be bound to their specified annotated methods.
+     * A Thread-Safe modifiable registry of tasks wrapping the methods to be bound to their specified annotated methods.
      */
-    protected final Map<String, WorkerTask> tasks = new ConcurrentHashMap<>();
+    protected final TaskRegistry tasks = new TaskRegistry();
 
     /**
      * A flag to order the executor for termination.
      */
     protected volatile boolean terminate;
 
+    /**
+     * A flag to order the executor for termination once its pending work is drained.
+     */
+    protected volatile boolean shutdown;
+
     /**
      * A flag to order the executor to start running.
      */
     protected volatile boolean active = false;
 
     /**
-     * Instantiates an app thread object. 
+     * The policy this thread follows on idle passes.
+     */
+    protected volatile IdleStrategy idleStrategy;
+
+    /**
+     * The sink reporting the failures caught by this executor.
+     */
+    protected volatile ErrorSink errorSink = ErrorSink.DEFAULT;
+
+    /**
+     * The busy and idle time metrics of this thread.
+     */
+    protected final ExecutorMetrics metrics = new ExecutorMetrics();
+
+    /**
+     * The maximum number of posted commands run per pass, so that a burst of commands
+     * doesn't starve the active tasks.
+     */
+    protected static final int COMMAND_BATCH_SIZE = 256;
+
+    /**
+     * The one-shot commands posted to this thread, consumed by this thread only.
+     */
+    protected final MpscQueue<Runnable> commands = new MpscQueue<>();
+
+    /**
+     * The pending schedules ordered by their deadlines, accessed by this thread only.
+     */
+    protected final PriorityQueue<Schedule> schedules =
+            new PriorityQueue<>((first, second) -> Long.compare(first.deadline - second.deadline, 0));
+
+    /**
+     * Instantiates an app thread object with a {@link BackoffIdleStrategy}.
      * 
      * @param name the name of the thread
      */
     public AppThread(String name) {
+        this(name, new BackoffIdleStrategy());
+    }
+
+    /**
+     * Instantiates an app thread object with an idle strategy.
+     *
+     * @param name the name of the thread
+     * @param idleStrategy the policy this thread follows on idle passes (non-nullable)
+     * @throws IllegalArgumentException if the idle strategy is null
+     */
+    public AppThread(String name, IdleStrategy idleStrategy) {
         super(name);
+        setIdleStrategy(idleStrategy);
     }
 
     @Override
     public void run() {
-        while (!isTerminated()){
-            if (!isActive()) {
-                continue;
+        idleStrategy.reset();
+        long passTime = System.nanoTime();
+        while (!isTerminated()) {
+            /* Schedules are not drained on shutdown, the periodic runs would never run out */
+            final int workCount = isActive() ? executeCommands() + (shutdown ? 0 : executeSchedules())
+                                               + executeActiveTasks() : 0;
+            if (shutdown && workCount == 0) {
+                terminate = true;
+                break;
+            }
+            final long idleTime = System.nanoTime();
+            /* Passes yielding no work are regarded as idle time */
+            if (workCount > 0) {
+                metrics.recordBusy(idleTime - passTime);
+            } else {
+                metrics.recordIdle(idleTime - passTime);
             }
-            executeTasks(0);
+            if (isActive() && !schedules.isEmpty()) {
+                idleStrategy.idle(workCount, Math.max(0L, schedules.peek().deadline - idleTime));
+            } else {
+                idleStrategy.idle(workCount);
+            }
+            passTime = System.nanoTime();
+            metrics.recordIdle(passTime - idleTime);
+        }
+        terminated();
+    }
+
+    /**
+     * Cleans up this executor on its termination, dispatched by this thread on exit, or by the terminating
+     * thread if this thread has never started, the posted commands not run yet are discarded, and the futures
+     * awaiting the pending activations are cancelled.
+     */
+    protected void terminated() {
+        schedules.clear();
+        commands.drain(command -> { }, Integer.MAX_VALUE);
+        for (WorkerTask task : tasks.getSnapshot()) {
+            task.cancel();
+        }
+        tasks.clear();
+    }
+
+    /**
+     * Adjusts the policy this thread follows on idle passes, the strategy
+     * takes effect on the next idle pass.
+     *
+     * @param idleStrategy the new idle strategy (non-nullable)
+     * @throws IllegalArgumentException if the idle strategy is null
+     */
+    public void setIdleStrategy(IdleStrategy idleStrategy) {
+        if (idleStrategy == null) {
+            throw new IllegalArgumentException("Nullary IdleStrategy is not allowed!");
         }
+        this.idleStrategy = idleStrategy;
+        signal();
+    }
+
+    /**
+     * Retrieves the policy this thread follows on idle passes.
+     *
+     * @return the idle strategy of this thread
+     */
+    public IdleStrategy getIdleStrategy() {
+        return idleStrategy;
+    }
+
+    /**
+     * Adjusts the sink reporting the failures caught by this executor, default is {@link ErrorSink#DEFAULT}.
+     *
+     * @param errorSink the new error sink (non-nullable)
+     * @throws IllegalArgumentException if the error sink is null
+     */
+    public void setErrorSink(ErrorSink errorSink) {
+        if (errorSink == null) {
+            throw new IllegalArgumentException("Nullary ErrorSink is not allowed!");
+        }
+        this.errorSink = errorSink;
+    }
+
+    @Override
+    public ErrorSink getErrorSink() {
+        return errorSink;
+    }
+
+    /**
+     * Wakes up this thread if it is parked by its idle strategy.
+     */
+    public void signal() {
+        LockSupport.unpark(this);
     }
 
     @Override
@@ -91,6 +243,14 @@ public class AppThread extends Thread implements TaskExecutor {
     @Override
     public void setActive(boolean active) {
         this.active = active;
+        if (active) {
+            signal();
+        }
+    }
+
+    @Override
+    public void onTaskActivated(WorkerTask task) {
+        signal();
     }
 
     @Override
@@ -102,28 +262,222 @@ public class AppThread extends Thread implements TaskExecutor {
     public void destructExecutorService(TaskExecutorsManager taskExecutorsManager) {
         this.terminate = true;
         setActive(false);
-        TaskExecutor.super.destructExecutorService(taskExecutorsManager);
+        signal();
+        if (getState() == State.NEW) {
+            terminated();
+        }
     }
 
     @Override
-    public void executeTasks(Object arguments) {
+    public void shutdown(TaskExecutorsManager taskExecutorsManager) {
+        this.shutdown = true;
+        signal();
+        if (getState() == State.NEW) {
+            this.terminate = true;
+            terminated();
+        }
+    }
+
+    /**
+     * Joins this thread until it exits after a shutdown, or until the timeout elapses.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if this thread has exited, or if it has been terminated before it started, false otherwise
+     * @throws InterruptedException if the waiting thread is interrupted
+     * @throws IllegalStateException if dispatched by this thread
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.currentThread() == this) {
+            throw new IllegalStateException("Cannot await the termination on the executor thread!");
+        }
+        if (getState() == State.NEW) {
+            return isTerminated();
+        }
+        unit.timedJoin(this, timeout);
+        return !isAlive();
+    }
+
+    @Override
+    public void post(Runnable command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Nullary command is not allowed!");
+        }
+        if (isTerminated() || shutdown) {
+            throw new RejectedExecutionException(getName() + " is terminated!");
+        }
+        commands.offer(command);
+        signal();
+    }
+
+    /**
+     * Schedules periodic runs of a bound task at a fixed rate, the runs are separated by the period
+     * regardless of their execution time, and missed runs are skipped rather than run in bursts.
+     *
+     * @param task the name of the bound task to schedule
+     * @param initialDelay the delay of the first run
+     * @param period the period between the successive runs (positive)
+     * @param unit the time unit of the delay and the period
+     * @return a schedule object to cancel the runs
+     * @throws IllegalArgumentException if the delay is negative, or if the period isn't positive
+     * @throws IllegalStateException if the task is not found
+     * @throws RejectedExecutionException if this thread is terminated
+     */
+    public Schedule scheduleAtFixedRate(String task, long initialDelay, long period, TimeUnit unit) {
+        return schedule(task, initialDelay, period, unit, true);
+    }
+
+    /**
+     * Schedules periodic runs of a bound task with a fixed delay, the delay is measured from the
+     * end of a run to the start of the next one.
+     *
+     * @param task the name of the bound task to schedule
+     * @param initialDelay the delay of the first run
+     * @param delay the delay between the end of a run and the start of the next one (positive)
+     * @param unit the time unit of the delays
+     * @return a schedule object to cancel the runs
+     * @throws IllegalArgumentException if the initial delay is negative, or if the delay isn't positive
+     * @throws IllegalStateException if the task is not found
+     * @throws RejectedExecutionException if this thread is terminated
+     */
+    public Schedule scheduleWithFixedDelay(String task, long initialDelay, long delay, TimeUnit unit) {
+        return schedule(task, initialDelay, delay, unit, false);
+    }
+
+    /**
+     * Queues a schedule to be inserted into the deadline heap by this thread.
+     *
+     * @param task the name of the bound task to schedule
+     * @param initialDelay the delay of the first run
+     * @param period the period or the delay between the runs
+     * @param unit the time unit of the delays
+     * @param fixedRate true to schedule at a fixed rate, false to schedule with a fixed delay
+     * @return a schedule object to cancel the runs
+     */
+    protected Schedule schedule(String task, long initialDelay, long period, TimeUnit unit, boolean fixedRate) {
+        if (initialDelay < 0 || period <= 0) {
+            throw new IllegalArgumentException("Illegal schedule delays!");
+        }
+        final WorkerTask workerTask = tasks.get(task);
+        if (workerTask == null) {
+            throw new IllegalStateException(task + " WorkerTask is not found!");
+        }
+        final Schedule schedule = new Schedule(this, workerTask, System.nanoTime() + unit.toNanos(initialDelay),
+                unit.toNanos(period), fixedRate);
+        post(() -> schedules.add(schedule));
+        return schedule;
+    }
+
+    /**
+     * Removes a cancelled schedule from the deadline heap, so that this thread no longer idles
+     * until its deadline, dispatched by {@link Schedule#cancel()}.
+     *
+     * @param schedule the cancelled schedule
+     */
+    void unschedule(Schedule schedule) {
         try {
-            for (String task : tasks.keySet()) {
-                if (tasks.get(task) == null || !tasks.get(task).isActive()) {
-                    continue;
-                }
+            post(() -> schedules.remove(schedule));
+        } catch (RejectedExecutionException e) {
+            /* The heap is cleared on termination */
+        }
+    }
+
+    /**
+     * Runs the schedules due by this pass, dispatched by this thread only, the cancelled
+     * schedules, and the schedules of unbound tasks are dropped.
+     *
+     * @return the number of scheduled runs executed by this pass
+     */
+    protected int executeSchedules() {
+        int workCount = 0;
+        final long now = System.nanoTime();
+        Schedule schedule;
+        /* Rescheduled runs are due after now, so a pass never runs the same schedule twice */
+        while ((schedule = schedules.peek()) != null && schedule.deadline - now <= 0) {
+            schedules.poll();
+            final WorkerTask task = schedule.getTask();
+            if (schedule.isCancelled() || tasks.get(task.getTaskId()) != task) {
+                continue;
+            }
+            workCount++;
+            /* Serves a pending activation as well, so that an activated task doesn't run twice by this pass */
+            task.setActive(false);
+            try {
+                task.execute();
+            } catch (Exception e) {
+                errorSink.report(task, e);
+            }
+            schedule.advance(System.nanoTime());
+            schedules.add(schedule);
+        }
+        return workCount;
+    }
+
+    /**
+     * Runs a pass over the active tasks, the posted commands are run by this thread only.
+     *
+     * @param arguments unused
+     */
+    @Override
+    public void executeTasks(Object arguments) {
+        executeActiveTasks();
+    }
+
+    /**
+     * Runs a batch of the posted commands, dispatched by this thread only.
+     *
+     * @return the number of commands executed by this batch
+     */
+    protected int executeCommands() {
+        return commands.drain(command -> {
+            try {
+                command.run();
+            } catch (Exception e) {
+                errorSink.report(this, e);
+            }
+        }, COMMAND_BATCH_SIZE);
+    }
+
+    /**
+     * Runs a single pass over the active tasks, visiting the marked tasks of the {@link ActiveSet} only,
+     * a failed task doesn't abort the pass.
+     *
+     * @return the number of tasks executed by this pass
+     */
+    protected int executeActiveTasks() {
+        int workCount = 0;
+        final ActiveSet activeSet = tasks.getActiveSet();
+        final WorkerTask[] snapshot = activeSet.getTasks();
+        for (int index = activeSet.nextMarked(0, snapshot.length); index >= 0;
+                 index = activeSet.nextMarked(index + 1, snapshot.length)) {
+            final WorkerTask task = snapshot[index];
+            /* Clears the mark before testing the task, so that a racing activation re-marks it */
+            activeSet.clear(index);
+            if (!task.isActive()) {
+                continue;
+            }
+            workCount++;
+            /* Triggers for a single run, activations during the run are kept for the next pass */
+            task.setActive(false);
+            try {
                 /* Saves the result of the execution order! */
-                tasks.get(task).setResult(tasks.get(task).call());
-                /* Triggers for a single run */
-                tasks.get(task).setActive(false);
+                task.execute();
+            } catch (Exception e) {
+                /* The failed task is supervised by its policy, the pass goes on with the other tasks */
+                errorSink.report(task, e);
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+        return workCount;
+    }
+
+    @Override
+    public ExecutorMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
-    public Map<String, WorkerTask> getTasks() {
+    public TaskRegistry getTasks() {
         return tasks;
     }
 
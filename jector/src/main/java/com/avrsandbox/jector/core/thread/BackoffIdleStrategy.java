@@ -0,0 +1,162 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An idle strategy that progressively backs off, spinning first, then yielding, then parking the
+ * executor thread for an exponentially growing period bounded by a maximum period.
+ *
+ * <p> This is the default strategy of an {@link AppThread}, a parked thread is woken up immediately
+ * when the executor or one of its tasks is activated, so that while a scheduled deadline is pending,
+ * the backed off thread parks until the deadline rather than the maximum period.
+ *
+ * @author pavl_g
+ */
+public class BackoffIdleStrategy implements IdleStrategy {
+
+    /**
+     * The default number of idle passes to spin.
+     */
+    public static final int DEFAULT_MAX_SPINS = 10;
+
+    /**
+     * The default number of idle passes to yield after spinning.
+     */
+    public static final int DEFAULT_MAX_YIELDS = 5;
+
+    /**
+     * The default minimum park period in nanoseconds.
+     */
+    public static final long DEFAULT_MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+    /**
+     * The default maximum park period in nanoseconds.
+     */
+    public static final long DEFAULT_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The number of idle passes to spin.
+     */
+    protected final int maxSpins;
+
+    /**
+     * The number of idle passes to yield after spinning.
+     */
+    protected final int maxYields;
+
+    /**
+     * The minimum park period in nanoseconds.
+     */
+    protected final long minParkNanos;
+
+    /**
+     * The maximum park period in nanoseconds.
+     */
+    protected final long maxParkNanos;
+
+    /**
+     * The number of consecutive idle passes.
+     */
+    protected int idlePasses;
+
+    /**
+     * The next park period in nanoseconds.
+     */
+    protected long parkNanos;
+
+    /**
+     * Instantiates a back-off strategy with the default parameters.
+     */
+    public BackoffIdleStrategy() {
+        this(DEFAULT_MAX_SPINS, DEFAULT_MAX_YIELDS, DEFAULT_MIN_PARK_NANOS, DEFAULT_MAX_PARK_NANOS);
+    }
+
+    /**
+     * Instantiates a back-off strategy.
+     *
+     * @param maxSpins the number of idle passes to spin
+     * @param maxYields the number of idle passes to yield after spinning
+     * @param minParkNanos the minimum park period in nanoseconds
+     * @param maxParkNanos the maximum park period in nanoseconds
+     * @throws IllegalArgumentException if any of the counts is negative, or if the park periods are not in order
+     */
+    public BackoffIdleStrategy(int maxSpins, int maxYields, long minParkNanos, long maxParkNanos) {
+        if (maxSpins < 0 || maxYields < 0) {
+            throw new IllegalArgumentException("Spins and yields count cannot be negative!");
+        }
+        if (minParkNanos < 1 || maxParkNanos < minParkNanos) {
+            throw new IllegalArgumentException("Park periods must be positive and in order!");
+        }
+        this.maxSpins = maxSpins;
+        this.maxYields = maxYields;
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+        this.parkNanos = minParkNanos;
+    }
+
+    @Override
+    public void idle(int workCount) {
+        if (workCount > 0) {
+            reset();
+            return;
+        }
+        if (idlePasses < maxSpins) {
+            idlePasses++;
+            Thread.onSpinWait();
+        } else if (idlePasses < maxSpins + maxYields) {
+            idlePasses++;
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(this, parkNanos);
+            parkNanos = Math.min(parkNanos << 1, maxParkNanos);
+        }
+    }
+
+    @Override
+    public void idle(int workCount, long timeoutNanos) {
+        if (workCount > 0 || idlePasses < maxSpins + maxYields) {
+            idle(workCount);
+            return;
+        }
+        /* Activations wake the thread up, so that it sleeps until the deadline uncapped by the back-off period */
+        LockSupport.parkNanos(this, timeoutNanos);
+    }
+
+    @Override
+    public void reset() {
+        idlePasses = 0;
+        parkNanos = minParkNanos;
+    }
+}
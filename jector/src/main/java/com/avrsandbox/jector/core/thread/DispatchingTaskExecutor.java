@@ -0,0 +1,338 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import com.avrsandbox.jector.core.error.ErrorSink;
+import com.avrsandbox.jector.core.metrics.ExecutorMetrics;
+import com.avrsandbox.jector.core.work.ActiveSet;
+import com.avrsandbox.jector.core.work.TaskExecutor;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.TaskRegistry;
+import com.avrsandbox.jector.core.work.WorkerTask;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the base implementation of a task executor that dispatches each activation of its tasks
+ * as an independent command, instead of looping over its tasks on a single thread.
+ *
+ * <p> A task is dispatched when it is activated while the executor is active, and the active tasks are dispatched when
+ * the executor is activated, each task is deactivated after it runs (a single run per activation) and is never dispatched
+ * twice concurrently.
+ *
+ * <p> The dispatched runs and commands are counted while in flight, so that a shutdown terminates the executor
+ * once the last of them completes, and {@link DispatchingTaskExecutor#awaitTermination(long, TimeUnit)} awaits it.
+ *
+ * @author pavl_g
+ */
+public abstract class DispatchingTaskExecutor implements TaskExecutor {
+
+    /**
+     * A Thread-Safe modifiable registry of tasks wrapping the methods to be bound to their specified annotated methods.
+     */
+    protected final TaskRegistry tasks = new TaskRegistry();
+
+    /**
+     * The tasks dispatched and not yet completed.
+     */
+    protected final Set<WorkerTask> dispatchedTasks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A flag to order the executor for termination.
+     */
+    protected volatile boolean terminate;
+
+    /**
+     * A flag to order the executor for termination once its pending work is drained.
+     */
+    protected volatile boolean shutdown;
+
+    /**
+     * The number of the dispatched runs and commands not yet completed.
+     */
+    protected final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * A latch released when the executor has terminated, and no dispatched run is in flight.
+     */
+    protected final CountDownLatch termination = new CountDownLatch(1);
+
+    private final AtomicBoolean terminated = new AtomicBoolean();
+
+    /**
+     * A flag to order the executor to start running.
+     */
+    protected volatile boolean active = false;
+
+    /**
+     * The busy time metrics of the dispatched runs, the idle time belongs to the threads running them.
+     */
+    protected final ExecutorMetrics metrics = new ExecutorMetrics();
+
+    /**
+     * The sink reporting the failures caught by this executor.
+     */
+    protected volatile ErrorSink errorSink = ErrorSink.DEFAULT;
+
+    /**
+     * Instantiates a dispatching task executor.
+     */
+    protected DispatchingTaskExecutor() {
+    }
+
+    /**
+     * Dispatches a command running a single task activation.
+     *
+     * @param command the command to run
+     * @throws RejectedExecutionException if the command cannot be accepted
+     */
+    protected abstract void dispatch(Runnable command);
+
+    @Override
+    public void startExecutorService(TaskExecutorsManager taskExecutorsManager) {
+    }
+
+    @Override
+    public void destructExecutorService(TaskExecutorsManager taskExecutorsManager) {
+        this.terminate = true;
+        setActive(false);
+        cancelTasks();
+        tryTerminate();
+    }
+
+    @Override
+    public void shutdown(TaskExecutorsManager taskExecutorsManager) {
+        this.shutdown = true;
+        tryTerminate();
+    }
+
+    /**
+     * Awaits the termination of this executor, dispatching this method from a dispatched run
+     * blocks until the timeout elapses, as the run is in flight.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if this executor has terminated, false otherwise
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return termination.await(timeout, unit);
+    }
+
+    /**
+     * Terminates this executor once it's shut down, and no dispatched run is in flight.
+     */
+    protected void tryTerminate() {
+        if (!(shutdown || terminate) || inFlight.get() != 0 || !terminated.compareAndSet(false, true)) {
+            return;
+        }
+        this.terminate = true;
+        cancelTasks();
+        terminated();
+        termination.countDown();
+    }
+
+    /**
+     * Cleans up the resources of this executor on its termination, dispatched by the thread completing
+     * the last run in flight, or by the terminating thread.
+     */
+    protected void terminated() {
+    }
+
+    /**
+     * Cancels the futures awaiting the pending activations, and clears the tasks of this executor.
+     */
+    private void cancelTasks() {
+        for (WorkerTask task : tasks.getSnapshot()) {
+            task.cancel();
+        }
+        tasks.clear();
+    }
+
+    /**
+     * Releases a completed run or command, terminating this executor if it's the last one in flight after a shutdown.
+     */
+    private void release() {
+        if (inFlight.decrementAndGet() == 0) {
+            tryTerminate();
+        }
+    }
+
+    @Override
+    public void post(Runnable command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Nullary command is not allowed!");
+        }
+        if (isTerminated() || shutdown) {
+            throw new RejectedExecutionException(getClass().getSimpleName() + " is terminated!");
+        }
+        inFlight.incrementAndGet();
+        try {
+            dispatch(() -> {
+                try {
+                    command.run();
+                } finally {
+                    release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void onTaskActivated(WorkerTask task) {
+        dispatchTask(task);
+    }
+
+    @Override
+    public void executeTasks(Object arguments) {
+        final ActiveSet activeSet = tasks.getActiveSet();
+        final WorkerTask[] snapshot = activeSet.getTasks();
+        for (int index = activeSet.nextMarked(0, snapshot.length); index >= 0;
+                 index = activeSet.nextMarked(index + 1, snapshot.length)) {
+            /* Clears the mark before testing the task, so that a racing activation re-marks it */
+            activeSet.clear(index);
+            if (snapshot[index].isActive()) {
+                dispatchTask(snapshot[index]);
+            }
+        }
+    }
+
+    /**
+     * Dispatches a task activation if this executor is active, and if the task isn't already dispatched.
+     *
+     * @param task the task to dispatch
+     */
+    protected void dispatchTask(WorkerTask task) {
+        if (!isActive() || isTerminated()) {
+            return;
+        }
+        if (!dispatchedTasks.add(task)) {
+            return;
+        }
+        inFlight.incrementAndGet();
+        /* Re-checks a termination racing with this dispatch */
+        if (isTerminated()) {
+            dispatchedTasks.remove(task);
+            release();
+            return;
+        }
+        try {
+            dispatch(() -> runTask(task));
+        } catch (RejectedExecutionException e) {
+            dispatchedTasks.remove(task);
+            release();
+            errorSink.report(this, e);
+        }
+    }
+
+    /**
+     * Runs a dispatched task activation, the task is deactivated before it runs and is
+     * re-dispatched if it got activated again meanwhile.
+     *
+     * @param task the task to run
+     */
+    protected void runTask(WorkerTask task) {
+        /* Triggers for a single run, activations during the run are kept for a re-dispatch */
+        task.setActive(false);
+        final long startTime = System.nanoTime();
+        try {
+            /* Saves the result of the execution order! */
+            task.execute();
+        } catch (Exception e) {
+            /* The failed task is supervised by its policy */
+            errorSink.report(task, e);
+        } finally {
+            metrics.recordBusy(System.nanoTime() - startTime);
+            dispatchedTasks.remove(task);
+        }
+        if (task.isActive()) {
+            dispatchTask(task);
+        }
+        /* Released after the re-dispatch, so that a shutdown never terminates between the runs of an activated task */
+        release();
+    }
+
+    /**
+     * Adjusts the sink reporting the failures caught by this executor, default is {@link ErrorSink#DEFAULT}.
+     *
+     * @param errorSink the new error sink (non-nullable)
+     * @throws IllegalArgumentException if the error sink is null
+     */
+    public void setErrorSink(ErrorSink errorSink) {
+        if (errorSink == null) {
+            throw new IllegalArgumentException("Nullary ErrorSink is not allowed!");
+        }
+        this.errorSink = errorSink;
+    }
+
+    @Override
+    public ErrorSink getErrorSink() {
+        return errorSink;
+    }
+
+    @Override
+    public ExecutorMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public void setActive(boolean active) {
+        this.active = active;
+        if (active) {
+            executeTasks(null);
+        }
+    }
+
+    @Override
+    public TaskRegistry getTasks() {
+        return tasks;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminate;
+    }
+}
@@ -0,0 +1,130 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A task executor that dispatches the activations of its tasks onto a work-stealing {@link ForkJoinPool},
+ * so that independent tasks bound to the same executor run in parallel on all the pool workers.
+ *
+ * <p> Tasks activated from inside a running task are pushed onto the local queue of the running worker
+ * and are stolen by idle workers, each task is deactivated after it runs (a single run per activation).
+ *
+ * @author pavl_g
+ */
+public class ForkJoinTaskExecutor extends DispatchingTaskExecutor {
+
+    /**
+     * The pool running the tasks activations.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * True if the pool is created by this executor and should be shut down on termination.
+     */
+    protected final boolean ownsPool;
+
+    /**
+     * Instantiates a task executor with a new pool of a parallelism level equal to the number
+     * of the available processors, the pool is shut down when this executor terminates.
+     */
+    public ForkJoinTaskExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Instantiates a task executor with a new pool of the specified parallelism level, the pool
+     * is shut down when this executor terminates.
+     *
+     * @param parallelism the parallelism level of the pool
+     * @throws IllegalArgumentException if the parallelism level is not positive
+     */
+    public ForkJoinTaskExecutor(int parallelism) {
+        this(new ForkJoinPool(parallelism), true);
+    }
+
+    /**
+     * Instantiates a task executor with a shared pool (e.g. {@link ForkJoinPool#commonPool()}), the
+     * pool is left running when this executor terminates.
+     *
+     * @param pool the pool running the tasks activations (non-nullable)
+     * @throws IllegalArgumentException if the pool is null
+     */
+    public ForkJoinTaskExecutor(ForkJoinPool pool) {
+        this(pool, false);
+    }
+
+    /**
+     * Instantiates a task executor with a pool.
+     *
+     * @param pool the pool running the tasks activations (non-nullable)
+     * @param ownsPool true to shut down the pool when this executor terminates
+     * @throws IllegalArgumentException if the pool is null
+     */
+    protected ForkJoinTaskExecutor(ForkJoinPool pool, boolean ownsPool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Nullary ForkJoinPool is not allowed!");
+        }
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    @Override
+    protected void dispatch(Runnable command) {
+        pool.execute(command);
+    }
+
+    @Override
+    protected void terminated() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return super.awaitTermination(timeout, unit)
+                && (!ownsPool || pool.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Retrieves the pool running the tasks activations.
+     *
+     * @return the pool of this executor
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+}
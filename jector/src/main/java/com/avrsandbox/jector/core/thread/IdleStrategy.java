@@ -0,0 +1,75 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+/**
+ * Represents the policy an {@link AppThread} follows whenever a pass over its tasks yields no work,
+ * or whenever the executor is inactive.
+ *
+ * <p> Implementations range from the lowest latency (busy-spinning) to the lowest CPU usage (blocking until
+ * signalled), an idle thread is woken up by the executor when it is activated, or when one of its
+ * {@link com.avrsandbox.jector.core.work.WorkerTask}s is activated.
+ *
+ * <p> Implementations may hold internal counters, an instance should not be shared among multiple executors.
+ *
+ * @author pavl_g
+ */
+public interface IdleStrategy {
+
+    /**
+     * Dispatched by the executor thread after each pass over its tasks.
+     *
+     * @param workCount the number of tasks executed by the last pass, zero denotes an idle pass
+     */
+    void idle(int workCount);
+
+    /**
+     * Dispatched by the executor thread after each pass over its tasks while a scheduled deadline is pending,
+     * strategies parking the thread must not park it beyond the timeout, so that the thread wakes up on the deadline.
+     *
+     * <p> The default implementation idles via {@link IdleStrategy#idle(int)}, which suits the strategies
+     * that never park the thread.
+     *
+     * @param workCount the number of tasks executed by the last pass, zero denotes an idle pass
+     * @param timeoutNanos the time left until the next deadline in nanoseconds
+     */
+    default void idle(int workCount, long timeoutNanos) {
+        idle(workCount);
+    }
+
+    /**
+     * Resets the internal state of this strategy, dispatched by the executor thread
+     * before it starts looping over its tasks.
+     */
+    default void reset() {
+    }
+}
@@ -0,0 +1,150 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free unbounded multi-producer single-consumer queue, any thread could offer elements,
+ * while a single thread (e.g. the thread of an executor) polls them.
+ *
+ * <p> Offering an element is a single atomic exchange on the tail of a linked list (no locks or retry
+ * loops), so producers never block each other nor the consumer. An element is visible to the consumer
+ * once its producer has linked it, so a poll racing with an offer in progress may miss it until the next poll.
+ *
+ * @param <E> the type of the queued elements
+ * @author pavl_g
+ */
+public final class MpscQueue<E> {
+
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findVarHandle(MpscQueue.class, "tail", Node.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The last consumed node, accessed by the consumer thread only.
+     */
+    private Node<E> head;
+
+    /**
+     * The last offered node, exchanged by the producers.
+     */
+    @SuppressWarnings("unused")
+    private volatile Node<E> tail;
+
+    /**
+     * Instantiates an empty queue.
+     */
+    public MpscQueue() {
+        final Node<E> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = stub;
+    }
+
+    /**
+     * Offers an element to the tail of this queue, could be dispatched by any thread.
+     *
+     * @param element the element to offer (non-nullable)
+     * @throws IllegalArgumentException if the element is null
+     */
+    @SuppressWarnings("unchecked")
+    public void offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Nullary elements are not allowed!");
+        }
+        final Node<E> node = new Node<>(element);
+        final Node<E> previous = (Node<E>) TAIL.getAndSet(this, node);
+        /* Links the node to the consumer side */
+        previous.next = node;
+    }
+
+    /**
+     * Polls the element at the head of this queue, dispatched by the consumer thread only.
+     *
+     * @return the polled element, or null if this queue is empty
+     */
+    public E poll() {
+        final Node<E> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        final E element = next.element;
+        /* The polled node becomes the new stub */
+        next.element = null;
+        head = next;
+        return element;
+    }
+
+    /**
+     * Polls a batch of elements passing them to a consumer, dispatched by the consumer thread only.
+     *
+     * @param consumer the consumer of the polled elements
+     * @param limit the maximum number of elements to poll
+     * @return the number of polled elements
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int count = 0;
+        E element;
+        while (count < limit && (element = poll()) != null) {
+            count++;
+            consumer.accept(element);
+        }
+        return count;
+    }
+
+    /**
+     * Tests whether this queue has no linked elements, dispatched by the consumer thread only.
+     *
+     * @return true if this queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    private static final class Node<E> {
+
+        private E element;
+        private volatile Node<E> next;
+
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+}
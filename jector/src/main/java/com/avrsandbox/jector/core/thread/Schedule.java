@@ -0,0 +1,131 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import com.avrsandbox.jector.core.work.WorkerTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a periodic run of a {@link WorkerTask} scheduled on an {@link AppThread}, either at a
+ * fixed rate or with a fixed delay between the runs, a schedule runs its task until it's cancelled,
+ * or until the task is unbound from its executor.
+ *
+ * @author pavl_g
+ */
+public final class Schedule {
+
+    private final AppThread appThread;
+    private final WorkerTask task;
+    private final long period;
+    private final boolean fixedRate;
+    private volatile boolean cancelled;
+
+    /**
+     * The {@link System#nanoTime()} of the next run, accessed by the executor thread only.
+     */
+    long deadline;
+
+    Schedule(AppThread appThread, WorkerTask task, long deadline, long period, boolean fixedRate) {
+        this.appThread = appThread;
+        this.task = task;
+        this.deadline = deadline;
+        this.period = period;
+        this.fixedRate = fixedRate;
+    }
+
+    /**
+     * Cancels the subsequent runs of this schedule, a run in progress is not interrupted, the schedule
+     * is removed from the deadline heap of its thread.
+     */
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        appThread.unschedule(this);
+    }
+
+    /**
+     * Tests whether this schedule is cancelled.
+     *
+     * @return true if this schedule is cancelled, false otherwise
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Retrieves the scheduled task.
+     *
+     * @return the scheduled task
+     */
+    public WorkerTask getTask() {
+        return task;
+    }
+
+    /**
+     * Retrieves the period between the runs, or the delay between the runs for
+     * fixed-delay schedules.
+     *
+     * @param unit the time unit of the retrieved period
+     * @return the period in the specified unit
+     */
+    public long getPeriod(TimeUnit unit) {
+        return unit.convert(period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Tests whether the runs of this schedule are at a fixed rate.
+     *
+     * @return true if the runs are at a fixed rate, false if the runs are separated by a fixed delay
+     */
+    public boolean isFixedRate() {
+        return fixedRate;
+    }
+
+    /**
+     * Computes the deadline of the next run after a completed run.
+     *
+     * @param now the {@link System#nanoTime()} after the completed run
+     */
+    void advance(long now) {
+        if (!fixedRate) {
+            deadline = now + period;
+            return;
+        }
+        deadline += period;
+        if (deadline - now <= 0) {
+            /* Skips the missed runs instead of bursting them */
+            deadline += ((now - deadline) / period + 1) * period;
+        }
+    }
+}
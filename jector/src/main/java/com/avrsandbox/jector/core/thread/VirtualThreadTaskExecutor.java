@@ -0,0 +1,118 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A task executor that runs each activation of its tasks on its own virtual thread, blocking
+ * operations inside the worker methods (e.g. I/O) park the virtual thread without tying up a carrier
+ * thread, so that thousands of tasks could be pending concurrently without thousands of OS threads.
+ *
+ * <p> Virtual threads require a Java runtime that provides them (Java 21 or later, or Java 19-20 with
+ * the preview features enabled), the virtual threads are resolved at runtime so that this
+ * executor remains compatible with older runtimes via {@link VirtualThreadTaskExecutor#VirtualThreadTaskExecutor(ThreadFactory)}.
+ *
+ * @author pavl_g
+ */
+public class VirtualThreadTaskExecutor extends DispatchingTaskExecutor {
+
+    /**
+     * The factory of the threads running the tasks activations.
+     */
+    protected final ThreadFactory threadFactory;
+
+    /**
+     * Instantiates a task executor running the tasks activations on virtual threads named
+     * after the specified name followed by a counter.
+     *
+     * @param name the name prefix of the virtual threads
+     * @throws UnsupportedOperationException if the Java runtime doesn't support virtual threads
+     */
+    public VirtualThreadTaskExecutor(String name) {
+        this(createVirtualThreadFactory(name));
+    }
+
+    /**
+     * Instantiates a task executor running the tasks activations on the threads of a thread factory.
+     *
+     * @param threadFactory the factory of the threads running the tasks activations (non-nullable)
+     * @throws IllegalArgumentException if the thread factory is null
+     */
+    public VirtualThreadTaskExecutor(ThreadFactory threadFactory) {
+        if (threadFactory == null) {
+            throw new IllegalArgumentException("Nullary ThreadFactory is not allowed!");
+        }
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    protected void dispatch(Runnable command) {
+        threadFactory.newThread(command).start();
+    }
+
+    /**
+     * Retrieves the factory of the threads running the tasks activations.
+     *
+     * @return the thread factory of this executor
+     */
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    /**
+     * Resolves a virtual threads factory equivalent to {@code Thread.ofVirtual().name(name, 0).factory()}.
+     *
+     * @param name the name prefix of the virtual threads
+     * @return a new virtual threads factory
+     * @throws UnsupportedOperationException if the Java runtime doesn't support virtual threads
+     */
+    protected static ThreadFactory createVirtualThreadFactory(String name) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            final Class<?> virtualBuilderType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            final MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                                                             MethodType.methodType(virtualBuilderType));
+            final MethodHandle named = lookup.findVirtual(builderType, "name",
+                                                          MethodType.methodType(builderType, String.class, long.class));
+            final MethodHandle factory = lookup.findVirtual(builderType, "factory",
+                                                            MethodType.methodType(ThreadFactory.class));
+            return (ThreadFactory) factory.invoke(named.invoke(ofVirtual.invoke(), name, 0L));
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this Java runtime!", e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+/**
+ * An idle strategy that spins for a number of idle passes before yielding the
+ * executor thread to the scheduler on every subsequent idle pass.
+ *
+ * @author pavl_g
+ */
+public class YieldingIdleStrategy implements IdleStrategy {
+
+    /**
+     * The default number of idle passes to spin before yielding.
+     */
+    public static final int DEFAULT_MAX_SPINS = 100;
+
+    /**
+     * The number of idle passes to spin before yielding.
+     */
+    protected final int maxSpins;
+
+    /**
+     * The number of consecutive idle passes.
+     */
+    protected int spins;
+
+    /**
+     * Instantiates a spin-then-yield strategy with {@link YieldingIdleStrategy#DEFAULT_MAX_SPINS}.
+     */
+    public YieldingIdleStrategy() {
+        this(DEFAULT_MAX_SPINS);
+    }
+
+    /**
+     * Instantiates a spin-then-yield strategy.
+     *
+     * @param maxSpins the number of idle passes to spin before yielding
+     * @throws IllegalArgumentException if the maxSpins is negative
+     */
+    public YieldingIdleStrategy(int maxSpins) {
+        if (maxSpins < 0) {
+            throw new IllegalArgumentException("Spins count cannot be negative!");
+        }
+        this.maxSpins = maxSpins;
+    }
+
+    @Override
+    public void idle(int workCount) {
+        if (workCount > 0) {
+            reset();
+            return;
+        }
+        if (spins < maxSpins) {
+            spins++;
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Override
+    public void reset() {
+        spins = 0;
+    }
+}
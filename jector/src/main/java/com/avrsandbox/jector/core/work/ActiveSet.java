@@ -0,0 +1,147 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Tracks the activated tasks of a {@link TaskRegistry} snapshot in an atomic bitset indexed by the scan order
+ * of the tasks, activating a task marks its bit, so that executors visit the marked tasks only, and the cost
+ * of a pass scales with the activity rather than with the number of the registered tasks.
+ *
+ * <p> Marks are hints, a marked task could have been deactivated meanwhile, executors clear the mark of
+ * a task before testing whether it's active, so that an activation racing with the test re-marks the task
+ * rather than being lost.
+ *
+ * @author pavl_g
+ */
+public final class ActiveSet {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * An empty set of an empty snapshot.
+     */
+    static final ActiveSet EMPTY = new ActiveSet(new WorkerTask[0], 0);
+
+    private final WorkerTask[] tasks;
+    private final int[] indices;
+    private final long[] words;
+
+    /**
+     * Instantiates an unmarked set over a snapshot.
+     *
+     * @param tasks the scan-ordered snapshot of the registered tasks
+     * @param slots the number of the slots of the registry, bounding the ids of the tasks
+     */
+    ActiveSet(WorkerTask[] tasks, int slots) {
+        this.tasks = tasks;
+        this.indices = new int[slots];
+        this.words = new long[(tasks.length + 63) >>> 6];
+        for (int index = 0; index < tasks.length; index++) {
+            indices[tasks[index].getTaskId()] = index;
+        }
+    }
+
+    /**
+     * Marks an activated task of the snapshot of this set, tasks that aren't in the
+     * snapshot are ignored.
+     *
+     * @param task the activated task
+     */
+    void mark(WorkerTask task) {
+        final int taskId = task.getTaskId();
+        if (taskId < 0 || taskId >= indices.length) {
+            return;
+        }
+        final int index = indices[taskId];
+        if (index < tasks.length && tasks[index] == task) {
+            mark(index);
+        }
+    }
+
+    /**
+     * Marks a task by its index in the snapshot.
+     *
+     * @param index the index of the task in {@link ActiveSet#getTasks()}
+     */
+    public void mark(int index) {
+        WORDS.getAndBitwiseOr(words, index >>> 6, 1L << index);
+    }
+
+    /**
+     * Clears the mark of a task by its index in the snapshot.
+     *
+     * @param index the index of the task in {@link ActiveSet#getTasks()}
+     * @return true if the task was marked, false otherwise
+     */
+    public boolean clear(int index) {
+        final long bit = 1L << index;
+        return ((long) WORDS.getAndBitwiseAnd(words, index >>> 6, ~bit) & bit) != 0;
+    }
+
+    /**
+     * Finds the next marked task within a range of the snapshot.
+     *
+     * @param fromIndex the first index of the range (inclusive)
+     * @param toIndex the last index of the range (exclusive)
+     * @return the index of the next marked task, or "-1" if no task is marked within the range
+     */
+    public int nextMarked(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return -1;
+        }
+        int wordIndex = fromIndex >>> 6;
+        long word = (long) WORDS.getVolatile(words, wordIndex) & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                final int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                return index < toIndex ? index : -1;
+            }
+            if (++wordIndex << 6 >= toIndex) {
+                return -1;
+            }
+            word = (long) WORDS.getVolatile(words, wordIndex);
+        }
+    }
+
+    /**
+     * Retrieves the scan-ordered snapshot indexed by this set, the returned array
+     * is shared and must not be modified.
+     *
+     * @return the snapshot of the registered tasks
+     */
+    public WorkerTask[] getTasks() {
+        return tasks;
+    }
+}
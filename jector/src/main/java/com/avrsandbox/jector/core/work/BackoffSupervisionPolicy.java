@@ -0,0 +1,135 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A supervision policy that restarts a failed task for a bounded number of consecutive failures, after
+ * an exponentially growing back-off delay bounded by a maximum delay, then deactivates the task and escalates
+ * its failure to an optional {@link TaskFailureListener}.
+ *
+ * <p> The initial delay is at least {@link SupervisionPolicy#MIN_RESTART_DELAY_NANOS}, so that a task failing
+ * on each run never spins on its executor, and zero restarts deactivate the task on its first failure.
+ *
+ * @author pavl_g
+ */
+public class BackoffSupervisionPolicy implements SupervisionPolicy {
+
+    /**
+     * The default maximum delay before a restart in nanoseconds.
+     */
+    public static final long DEFAULT_MAX_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The number of the consecutive failures restarting the task before it's deactivated.
+     */
+    protected final int maxRestarts;
+
+    /**
+     * The delay before the first restart in nanoseconds.
+     */
+    protected final long initialDelayNanos;
+
+    /**
+     * The maximum delay before a restart in nanoseconds.
+     */
+    protected final long maxDelayNanos;
+
+    /**
+     * The listener notified of the deactivated tasks, "null" if the failures are not escalated.
+     */
+    protected final TaskFailureListener escalation;
+
+    /**
+     * Instantiates a policy restarting the failed tasks after the minimum delay, doubled per consecutive failure
+     * up to {@link BackoffSupervisionPolicy#DEFAULT_MAX_DELAY_NANOS}, the failures of the deactivated tasks are not escalated.
+     *
+     * @param maxRestarts the number of the consecutive failures restarting the task before it's deactivated
+     * @throws IllegalArgumentException if the restarts count is negative
+     */
+    public BackoffSupervisionPolicy(int maxRestarts) {
+        this(maxRestarts, MIN_RESTART_DELAY_NANOS, DEFAULT_MAX_DELAY_NANOS, TimeUnit.NANOSECONDS, null);
+    }
+
+    /**
+     * Instantiates a back-off supervision policy.
+     *
+     * @param maxRestarts the number of the consecutive failures restarting the task before it's deactivated
+     * @param initialDelay the delay before the first restart
+     * @param maxDelay the maximum delay before a restart
+     * @param unit the time unit of the delays
+     * @param escalation the listener notified of the deactivated tasks, or null to not escalate the failures
+     * @throws IllegalArgumentException if the restarts count is negative, if the initial delay is shorter than
+     *                                  {@link SupervisionPolicy#MIN_RESTART_DELAY_NANOS}, or if the delays are not in order
+     */
+    public BackoffSupervisionPolicy(int maxRestarts, long initialDelay, long maxDelay, TimeUnit unit,
+                                    TaskFailureListener escalation) {
+        if (maxRestarts < 0) {
+            throw new IllegalArgumentException("Restarts count cannot be negative!");
+        }
+        if (unit.toNanos(initialDelay) < MIN_RESTART_DELAY_NANOS || maxDelay < initialDelay) {
+            throw new IllegalArgumentException("Restart delays must be at least the minimum delay and in order!");
+        }
+        this.maxRestarts = maxRestarts;
+        this.initialDelayNanos = unit.toNanos(initialDelay);
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.escalation = escalation;
+    }
+
+    @Override
+    public Directive onFailure(WorkerTask task, Throwable error, int failures) {
+        if (failures <= maxRestarts) {
+            return Directive.RESTART;
+        }
+        if (escalation != null) {
+            escalation.onTaskFailed(task, error, failures);
+        }
+        return Directive.DEACTIVATE;
+    }
+
+    @Override
+    public long getRestartDelay(WorkerTask task, int failures) {
+        /* Doubles the delay per consecutive failure, guarding the shift against overflowing */
+        final int shift = Math.min(failures - 1, Long.numberOfLeadingZeros(initialDelayNanos) - 1);
+        return Math.min(initialDelayNanos << shift, maxDelayNanos);
+    }
+
+    /**
+     * Retrieves the number of the consecutive failures restarting the task before it's deactivated.
+     *
+     * @return the maximum number of the restarts
+     */
+    public int getMaxRestarts() {
+        return maxRestarts;
+    }
+}
@@ -0,0 +1,109 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.core.command.BatchArguments;
+import com.avrsandbox.jector.core.command.MethodArguments;
+
+/**
+ * Defines a task coalescing its pending activations into batches, each run processes up to a maximum
+ * batch size of the activations in a single call, so that bulk workloads (e.g. entity updates) pay the
+ * dispatching overhead once per batch rather than once per activation.
+ *
+ * <p> Activations carrying arguments are queued via {@link WorkerTask#activate(MethodArguments)}, the
+ * activations left over by a run keep this task active for the next run of its executor, the futures of
+ * the coalesced activations are completed by the return result of their batch.
+ *
+ * @author pavl_g
+ */
+public abstract class BatchWorkerTask extends WorkerTask {
+
+    /**
+     * The batch reused across the runs of this task.
+     */
+    protected final BatchArguments batch;
+
+    /**
+     * The maximum number of activations processed by a single run.
+     */
+    protected final int maxBatchSize;
+
+    /**
+     * Instantiates a batch task.
+     *
+     * @param boundArguments the arguments passed on binding, or null for nullary bindings
+     * @param maxBatchSize the maximum number of activations processed by a single run (positive)
+     * @throws IllegalArgumentException if the maximum batch size isn't positive
+     */
+    public BatchWorkerTask(MethodArguments boundArguments, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Illegal maximum batch size!");
+        }
+        this.batch = new BatchArguments(boundArguments);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Coalesces up to a maximum batch size of the pending activations and processes them via
+     * {@link BatchWorkerTask#call(BatchArguments)}.
+     *
+     * @return the return result of the batch
+     * @throws Exception if the batch fails
+     */
+    @Override
+    public Object call() throws Exception {
+        try {
+            return call(pollArguments(batch, maxBatchSize));
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Processes a batch of the pending activations, an empty batch denotes an activation
+     * without arguments (e.g. via {@link WorkerTask#setActive(boolean)}).
+     *
+     * @param batch the batch of the coalesced activations, reused across the runs
+     * @return the return result of the batch
+     * @throws Exception if the batch fails
+     */
+    protected abstract Object call(BatchArguments batch) throws Exception;
+
+    /**
+     * Retrieves the maximum number of activations processed by a single run.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+}
@@ -0,0 +1,289 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A bounded lock-free multi-producer multi-consumer channel streaming the results of a {@link WorkerTask},
+ * each completed run of the task offers its result to the channel, so that a consumer reading late (e.g. once per
+ * frame on the JME thread) drains all the intermediate results rather than the last one only.
+ *
+ * <p> The channel is a ring buffer of sequenced slots, offering and polling a result are a single compare-and-set
+ * on the ring cursors, when the ring is full, the {@link OverflowPolicy} of the channel either drops the oldest result,
+ * or blocks the producer until a consumer frees a slot.
+ *
+ * <p> Null results (e.g. of void methods) are not streamed.
+ *
+ * @param <T> the type of the streamed results
+ * @author pavl_g
+ */
+public final class ResultChannel<T> {
+
+    private static final VarHandle ENQUEUE_POSITION;
+    private static final VarHandle DEQUEUE_POSITION;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ENQUEUE_POSITION = lookup.findVarHandle(ResultChannel.class, "enqueuePosition", long.class);
+            DEQUEUE_POSITION = lookup.findVarHandle(ResultChannel.class, "dequeuePosition", long.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Specifies the behavior of a full channel on offering a result.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Drops the oldest results to free a slot, so that producers never wait for consumers.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Blocks the producer until a consumer frees a slot, so that no result is lost, a blocked
+         * producer stalls its executor, use this policy with consumers keeping up with the producer.
+         */
+        BLOCK
+    }
+
+    private final Class<T> type;
+    private final OverflowPolicy policy;
+    private final Object[] results;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong dropped = new AtomicLong();
+
+    @SuppressWarnings("unused")
+    private volatile long enqueuePosition;
+
+    @SuppressWarnings("unused")
+    private volatile long dequeuePosition;
+
+    /**
+     * Instantiates an empty channel.
+     *
+     * @param type the type of the streamed results, used to check the offered results (non-nullable)
+     * @param capacity the minimum number of results held by the channel, rounded up to a power of 2 of at least 2 (positive)
+     * @param policy the behavior of the channel when it's full (non-nullable)
+     * @throws IllegalArgumentException if the type or the policy is null, or if the capacity isn't positive
+     */
+    public ResultChannel(Class<T> type, int capacity, OverflowPolicy policy) {
+        if (type == null) {
+            throw new IllegalArgumentException("Nullary result type is not allowed!");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Nullary OverflowPolicy is not allowed!");
+        }
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Illegal channel capacity!");
+        }
+        final int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.type = type;
+        this.policy = policy;
+        this.results = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int slot = 0; slot < size; slot++) {
+            sequences.set(slot, slot);
+        }
+    }
+
+    /**
+     * Offers a result to this channel following its {@link OverflowPolicy} when it's full.
+     *
+     * @param result the result to offer, null results are ignored
+     * @return true if the result is offered, false if the result is null, or if the producer is
+     *         interrupted while blocked (the interrupt status is kept)
+     * @throws ClassCastException if the result is not of the type of this channel
+     */
+    public boolean offer(Object result) {
+        if (result == null) {
+            return false;
+        }
+        final T typedResult = type.cast(result);
+        int idlePasses = 0;
+        while (!tryOffer(typedResult)) {
+            if (policy == OverflowPolicy.DROP_OLDEST) {
+                if (poll() != null) {
+                    dropped.incrementAndGet();
+                }
+                continue;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            /* Backs off while blocked, a consumer frees a slot within a few of its polls */
+            if (idlePasses++ < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, 50_000L);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Offers a result to this channel without dropping or blocking.
+     *
+     * @param result the result to offer (non-nullable)
+     * @return true if the result is offered, false if this channel is full
+     */
+    public boolean tryOffer(T result) {
+        long position = (long) ENQUEUE_POSITION.getVolatile(this);
+        while (true) {
+            final int slot = (int) position & mask;
+            final long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (ENQUEUE_POSITION.compareAndSet(this, position, position + 1)) {
+                    results[slot] = result;
+                    /* Publishes the result to the consumers */
+                    sequences.lazySet(slot, position + 1);
+                    return true;
+                }
+                position = (long) ENQUEUE_POSITION.getVolatile(this);
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = (long) ENQUEUE_POSITION.getVolatile(this);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the oldest result of this channel.
+     *
+     * @return the oldest result, or null if this channel is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = (long) DEQUEUE_POSITION.getVolatile(this);
+        while (true) {
+            final int slot = (int) position & mask;
+            final long difference = sequences.get(slot) - (position + 1);
+            if (difference == 0) {
+                if (DEQUEUE_POSITION.compareAndSet(this, position, position + 1)) {
+                    final T result = (T) results[slot];
+                    results[slot] = null;
+                    /* Frees the slot for the next lap of the producers */
+                    sequences.lazySet(slot, position + mask + 1);
+                    return result;
+                }
+                position = (long) DEQUEUE_POSITION.getVolatile(this);
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = (long) DEQUEUE_POSITION.getVolatile(this);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes up to a limit of the oldest results, passing them in order to a consumer.
+     *
+     * @param consumer the consumer of the results
+     * @param limit the maximum number of results to drain
+     * @return the number of drained results
+     */
+    public int drain(Consumer<? super T> consumer, int limit) {
+        int count = 0;
+        T result;
+        while (count < limit && (result = poll()) != null) {
+            consumer.accept(result);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Tests whether this channel holds no results.
+     *
+     * @return true if this channel is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Retrieves an estimate of the number of results held by this channel.
+     *
+     * @return the number of results held by this channel
+     */
+    public int size() {
+        final long size = (long) ENQUEUE_POSITION.getVolatile(this) - (long) DEQUEUE_POSITION.getVolatile(this);
+        return (int) Math.max(0L, Math.min(size, results.length));
+    }
+
+    /**
+     * Retrieves the number of results this channel holds at most.
+     *
+     * @return the capacity of this channel
+     */
+    public int getCapacity() {
+        return results.length;
+    }
+
+    /**
+     * Retrieves the number of results dropped by the {@link OverflowPolicy#DROP_OLDEST} policy.
+     *
+     * @return the number of dropped results
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Retrieves the type of the streamed results.
+     *
+     * @return the type of the results
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the behavior of this channel when it's full.
+     *
+     * @return the overflow policy of this channel
+     */
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+}
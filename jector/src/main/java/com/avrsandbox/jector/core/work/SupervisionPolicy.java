@@ -0,0 +1,108 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the policy a {@link WorkerTask} follows whenever one of its runs fails, the failure is
+ * isolated to the failing task, so that the other tasks of its executor keep running.
+ *
+ * <p> Policies are dispatched by the thread running the failed task, with the number of the consecutive
+ * failures of the task, a completed run resets the number of the failures.
+ *
+ * @author pavl_g
+ */
+@FunctionalInterface
+public interface SupervisionPolicy {
+
+    /**
+     * The default policy, keeps the failed task as it is, the pending activations of the
+     * task are served by the subsequent runs.
+     */
+    SupervisionPolicy RESUME = (task, error, failures) -> Directive.RESUME;
+
+    /**
+     * Deactivates a failed task immediately, the pending activations of the task fail with its failure.
+     */
+    SupervisionPolicy DEACTIVATE = (task, error, failures) -> Directive.DEACTIVATE;
+
+    /**
+     * The minimum delay before a failed task is restarted in nanoseconds, shorter delays are raised to it,
+     * so that a task failing on each run never spins on its executor.
+     */
+    long MIN_RESTART_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Decides the directive to apply to a failed task.
+     *
+     * @param task the failed task
+     * @param error the failure of the run
+     * @param failures the number of the consecutive failures of the task including this failure
+     * @return the directive to apply to the failed task (non-nullable)
+     */
+    Directive onFailure(WorkerTask task, Throwable error, int failures);
+
+    /**
+     * Retrieves the delay before a failed task is restarted, dispatched when {@link Directive#RESTART}
+     * is decided, the default implementation restarts the task after {@link SupervisionPolicy#MIN_RESTART_DELAY_NANOS}.
+     *
+     * @param task the failed task
+     * @param failures the number of the consecutive failures of the task including this failure
+     * @return the restart delay in nanoseconds, delays shorter than {@link SupervisionPolicy#MIN_RESTART_DELAY_NANOS}
+     *         are raised to it
+     */
+    default long getRestartDelay(WorkerTask task, int failures) {
+        return MIN_RESTART_DELAY_NANOS;
+    }
+
+    /**
+     * Represents the directives applied to a failed task.
+     */
+    enum Directive {
+
+        /**
+         * Keeps the task as it is, the pending activations are served by the subsequent runs.
+         */
+        RESUME,
+
+        /**
+         * Activates the task again after the delay of {@link SupervisionPolicy#getRestartDelay(WorkerTask, int)}.
+         */
+        RESTART,
+
+        /**
+         * Deactivates the task, the pending activations fail with the failure of the task.
+         */
+        DEACTIVATE
+    }
+}
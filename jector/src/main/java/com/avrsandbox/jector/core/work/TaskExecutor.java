@@ -31,8 +31,14 @@
 
 package com.avrsandbox.jector.core.work;
 
+import com.avrsandbox.jector.core.error.ErrorSink;
+import com.avrsandbox.jector.core.metrics.ExecutorMetrics;
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A general-purpose abstraction representing the entity executing the methods (dependencies) in 
@@ -51,13 +57,96 @@ public interface TaskExecutor {
      * @throws IllegalArgumentException if at least either of the method arguments is null
      */
     default void addTask(Method method, WorkerTask task) {
+        if (method == null) {
+            throw new IllegalArgumentException("Cannot add nullary worker tasks!");
+        }
+        addTask(method.getName(), task);
+    }
+
+    /**
+     * Maps a new worker task to its name, usually the name of its worker method.
+     *
+     * @param name the name of this task
+     * @param task a task instance
+     * @throws IllegalStateException if this executor has a nullary worker-tasks map
+     * @throws IllegalArgumentException if at least either of the method arguments is null
+     */
+    default void addTask(String name, WorkerTask task) {
         if (getTasks() == null) {
             throw new IllegalStateException("Nullary WorkerTasks map is not allowed!");
         }
-        if (method == null || task == null) {
+        if (name == null || task == null) {
             throw new IllegalArgumentException("Cannot add nullary worker tasks!");
         }
-        getTasks().put(method.getName(), task);
+        task.setTaskExecutor(this);
+        task.setName(name);
+        getTasks().put(name, task);
+    }
+
+    /**
+     * Dispatched when a task of this executor transits from the inactive to the active state,
+     * implementations may use this callback to wake up an idle executor.
+     *
+     * @param task the activated task
+     */
+    default void onTaskActivated(WorkerTask task) {
+    }
+
+    /**
+     * Posts a one-shot command to run on this executor, commands are never collapsed, each posted
+     * command runs once, in the order of posting for the executors running on a single thread.
+     *
+     * <p> Unlike the bound worker tasks, commands need no binding, so any thread could post
+     * ad-hoc work to any executor, {@link TaskExecutor#submit(Callable)} and the command utilities
+     * of {@link com.avrsandbox.jector.util.Tasks} are built on this method.
+     *
+     * @param command the command to run (non-nullable)
+     * @throws IllegalArgumentException if the command is null
+     * @throws RejectedExecutionException if this executor is terminated
+     */
+    void post(Runnable command);
+
+    /**
+     * Posts a one-shot command to run on this executor, retrieving a future completed
+     * by the return value of the command.
+     *
+     * @param <T> the type of the return value
+     * @param command the command to run (non-nullable)
+     * @return a future completed by the return value of the command, or exceptionally if the command fails
+     * @throws IllegalArgumentException if the command is null
+     * @throws RejectedExecutionException if this executor is terminated
+     */
+    default <T> CompletableFuture<T> submit(Callable<T> command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Nullary command is not allowed!");
+        }
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        post(() -> {
+            try {
+                future.complete(command.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Retrieves the busy and idle time metrics of this executor.
+     *
+     * @return the metrics of this executor, or null if this executor doesn't record metrics
+     */
+    default ExecutorMetrics getMetrics() {
+        return null;
+    }
+
+    /**
+     * Retrieves the sink reporting the failures caught by this executor, e.g. the failed runs of its tasks.
+     *
+     * @return the error sink of this executor, the default implementation retrieves {@link ErrorSink#DEFAULT}
+     */
+    default ErrorSink getErrorSink() {
+        return ErrorSink.DEFAULT;
     }
 
     /**
@@ -82,6 +171,47 @@ public interface TaskExecutor {
         getTasks().clear();
     }
 
+    /**
+     * Initiates an orderly shutdown of this executor, dispatched by {@link TaskExecutorsManager#shutdown()}, new
+     * commands are rejected, the activations and the commands pending on this call are served, then this executor
+     * terminates, and the futures awaiting the activations left over are cancelled.
+     *
+     * <p> The default implementation terminates this executor immediately via
+     * {@link TaskExecutor#destructExecutorService(TaskExecutorsManager)}.
+     *
+     * @param taskExecutorsManager the task-executors manager instance
+     */
+    default void shutdown(TaskExecutorsManager taskExecutorsManager) {
+        destructExecutorService(taskExecutorsManager);
+    }
+
+    /**
+     * Terminates this executor immediately, dispatched by {@link TaskExecutorsManager#shutdownNow()}, the runs
+     * in progress complete, the posted commands not run yet are discarded, and the futures awaiting the pending
+     * activations are cancelled.
+     *
+     * <p> The default implementation dispatches {@link TaskExecutor#destructExecutorService(TaskExecutorsManager)}.
+     *
+     * @param taskExecutorsManager the task-executors manager instance
+     */
+    default void shutdownNow(TaskExecutorsManager taskExecutorsManager) {
+        destructExecutorService(taskExecutorsManager);
+    }
+
+    /**
+     * Blocks until this executor has terminated and stopped running tasks after a shutdown, or until the timeout elapses.
+     *
+     * <p> The default implementation doesn't block, and retrieves {@link TaskExecutor#isTerminated()}.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if this executor has terminated, false if the timeout elapsed before the termination
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    default boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return isTerminated();
+    }
+
     /**
      * Runs the tasks in synchrony with some arguments.
      * 
@@ -111,7 +241,8 @@ public interface TaskExecutor {
     void setActive(boolean active);
 
     /**
-     * Retrieves the tasks to be executed by this instance.
+     * Retrieves the tasks to be executed by this instance, implementations are encouraged
+     * to hold their tasks in a {@link TaskRegistry}.
      * 
      * @return a map of tasks to be executed
      */
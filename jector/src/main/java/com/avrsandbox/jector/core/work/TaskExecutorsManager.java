@@ -31,14 +31,27 @@
 
 package com.avrsandbox.jector.core.work;
 
+import com.avrsandbox.jector.core.command.BatchArguments;
 import com.avrsandbox.jector.core.command.MethodArguments;
 import com.avrsandbox.jector.core.command.ExecuteOn;
+import com.avrsandbox.jector.core.command.MethodDescriptor;
+import com.avrsandbox.jector.core.command.MethodInvoker;
+import com.avrsandbox.jector.core.command.WorkerBinder;
+import com.avrsandbox.jector.core.command.WorkerBinders;
+import com.avrsandbox.jector.core.command.WorkerMethods;
+import com.avrsandbox.jector.core.error.ErrorSink;
 import com.avrsandbox.jector.util.Validator;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.IllegalAccessException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A bridging API that binds annotated {@link ExecuteOn} methods in a {@link Worker} as 
@@ -46,6 +59,11 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p> Each TaskExecutorManager instance has its own {@link Worker}s implementation, all the {@link ExecuteOn} annotated
  * methods should be in an object of type {@link Worker} to be executed on the declared {@link TaskExecutor}.
+ *
+ * <p> The registered executors are shut down via {@link TaskExecutorsManager#shutdown()} or {@link TaskExecutorsManager#shutdownNow()},
+ * and are tracked until they have terminated, so that {@link TaskExecutorsManager#awaitTermination(long, TimeUnit)} returns once
+ * their work has stopped, the names of the shut down executors are released immediately, so that the subsystems
+ * could be restarted by registering new executors.
  * 
  * @author pavl_g
  */
@@ -61,6 +79,21 @@ public class TaskExecutorsManager {
      */
     protected Map<String, TaskExecutor> taskExecutors = new ConcurrentHashMap<>();
 
+    /**
+     * The executors shut down or unregistered by this manager and not yet terminated, mapped to their names.
+     */
+    protected final Map<TaskExecutor, String> terminatingExecutors = new ConcurrentHashMap<>();
+
+    /**
+     * The policy supervising the failed runs of the tasks bound by this manager.
+     */
+    protected volatile SupervisionPolicy supervisionPolicy = SupervisionPolicy.RESUME;
+
+    /**
+     * The sink reporting the failures caught by this manager.
+     */
+    protected volatile ErrorSink errorSink = ErrorSink.DEFAULT;
+
     /**
      * Instantiates an executors manager with a single worker implementation.
      *
@@ -112,17 +145,87 @@ public class TaskExecutorsManager {
     }
 
     /**
-     * Unregisters a task executor invoking the {@link TaskExecutor#destructExecutorService(TaskExecutorsManager)}.
+     * Unregisters a task executor invoking the {@link TaskExecutor#destructExecutorService(TaskExecutorsManager)}, the
+     * executor could still be completing its last run when this method returns, and is awaited by
+     * {@link TaskExecutorsManager#awaitTermination(long, TimeUnit)}.
      *
      * @param name the name of the task executor to unregister in string format
      * @throws IllegalArgumentException if the task executor is not found
      */
     public void unregisterTaskExecutor(String name) {
-        if (taskExecutors.get(name) == null) {
+        final TaskExecutor taskExecutor = taskExecutors.get(name);
+        if (taskExecutor == null) {
             throw new IllegalArgumentException(name + " TaskExecutor is not found!");
         }
-        taskExecutors.get(name).destructExecutorService(this);
-        taskExecutors.remove(name);
+        terminatingExecutors.put(taskExecutor, name);
+        taskExecutor.destructExecutorService(this);
+        taskExecutors.remove(name, taskExecutor);
+    }
+
+    /**
+     * Initiates an orderly shutdown of the registered executors via {@link TaskExecutor#shutdown(TaskExecutorsManager)},
+     * new commands are rejected, and the pending commands and activations are served before the executors terminate,
+     * this method doesn't wait for the termination, use {@link TaskExecutorsManager#awaitTermination(long, TimeUnit)}.
+     *
+     * <p> The executors are unregistered, so that new executors could be registered under the same names.
+     */
+    public void shutdown() {
+        for (Map.Entry<String, TaskExecutor> entry : taskExecutors.entrySet()) {
+            terminatingExecutors.put(entry.getValue(), entry.getKey());
+            taskExecutors.remove(entry.getKey(), entry.getValue());
+            entry.getValue().shutdown(this);
+        }
+    }
+
+    /**
+     * Terminates the registered executors, and the executors still draining after a shutdown immediately via
+     * {@link TaskExecutor#shutdownNow(TaskExecutorsManager)}, the runs in progress complete, and the futures awaiting
+     * the pending activations are cancelled, this method doesn't wait for the runs in progress,
+     * use {@link TaskExecutorsManager#awaitTermination(long, TimeUnit)}.
+     */
+    public void shutdownNow() {
+        for (Map.Entry<String, TaskExecutor> entry : taskExecutors.entrySet()) {
+            terminatingExecutors.put(entry.getValue(), entry.getKey());
+            taskExecutors.remove(entry.getKey(), entry.getValue());
+        }
+        for (TaskExecutor taskExecutor : terminatingExecutors.keySet()) {
+            taskExecutor.shutdownNow(this);
+        }
+    }
+
+    /**
+     * Blocks until the executors shut down or unregistered by this manager have terminated, or until the
+     * timeout elapses, the timeout bounds the whole call rather than each executor.
+     *
+     * <p> The executors not terminated by the timeout (the stragglers) are reported to the {@link ErrorSink}
+     * of this manager, and are retrieved via {@link TaskExecutorsManager#getTerminatingExecutors()}, e.g. to
+     * terminate them via {@link TaskExecutorsManager#shutdownNow()}.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if all the executors have terminated, false if the timeout elapsed before
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Map.Entry<TaskExecutor, String> entry : terminatingExecutors.entrySet()) {
+            if (entry.getKey().awaitTermination(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS)) {
+                terminatingExecutors.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<TaskExecutor, String> entry : terminatingExecutors.entrySet()) {
+            errorSink.report(entry.getKey(), new TimeoutException(entry.getValue() + " TaskExecutor is not terminated!"));
+        }
+        return terminatingExecutors.isEmpty();
+    }
+
+    /**
+     * Retrieves the names of the executors shut down or unregistered by this manager and not yet terminated.
+     *
+     * @return a new list of the names of the terminating executors
+     */
+    public List<String> getTerminatingExecutors() {
+        return new ArrayList<>(terminatingExecutors.values());
     }
 
     /**
@@ -134,24 +237,43 @@ public class TaskExecutorsManager {
 
     /**
      * Binds worker methods to their executor instances via {@link WorkerTask}s.
+     *
+     * <p> Each annotated method is described once by a {@link MethodDescriptor} holding its validated
+     * signature and its resolved {@link MethodInvoker}, all the methods are validated before any task
+     * is bound, so that an invalid signature fails this call rather than the first task execution.
+     *
+     * <p> Workers with compile-time generated {@link WorkerBinder}s are bound from their binders
+     * without scanning their methods, other workers are scanned reflectively, each worker class is described
+     * once (see {@link WorkerMethods#getMethodDescriptors(Class)}), and its descriptors are validated against the
+     * method arguments once per call, so that binding many workers of the same class costs no description.
+     *
+     * <p> The method arguments are shared by all the runs of the bound tasks, except for the runs serving
+     * activations with their own arguments via {@link WorkerTask#activate(MethodArguments)}.
      * 
      * @param methodArguments a data structure representing a wrapper for methods arguments passed to the 
      *                        methods to be executed
+     * @throws IllegalArgumentException if an annotated method signature is invalid, if the method is inaccessible,
+     *                                  or if the method arguments don't match the slots declared by the method
+     * @throws IllegalStateException if an annotated method specifies an unregistered task executor
      */
     public void bind(MethodArguments methodArguments) {
+        final Class<? extends MethodArguments> argumentsType = methodArguments != null ?
+                                                               methodArguments.getClass() : MethodArguments.class;
+        final List<Map.Entry<Worker, MethodDescriptor>> descriptors = new ArrayList<>();
+        final Map<Class<? extends Worker>, List<MethodDescriptor>> workerDescriptors = new HashMap<>();
         for (Worker worker : workers) {
-            Method[] methods = worker.getClass().getDeclaredMethods();
-            for (Method method : methods) {
-                /* Retrieves the Annotation of type RunOn */
-                ExecuteOn annotation = method.getAnnotation(ExecuteOn.class);
-                /* Sanity Check the input */
-                if (annotation == null || annotation.executors().length < 1) {
-                    continue;
-                }
-                /* Binds worker methods to the specified task executor  */
-                bind(annotation.executors(), worker, method, methodArguments);
+            /* Fails fast on invalid signatures before binding any task */
+            for (MethodDescriptor descriptor : workerDescriptors.computeIfAbsent(worker.getClass(),
+                    workerClass -> describeWorker(workerClass, argumentsType))) {
+                validateExecutors(descriptor);
+                descriptor.validateLayout(methodArguments);
+                descriptors.add(Map.entry(worker, descriptor));
             }
         }
+        for (Map.Entry<Worker, MethodDescriptor> descriptor : descriptors) {
+            /* Binds worker methods to the specified task executor  */
+            bind(descriptor.getKey(), descriptor.getValue(), methodArguments);
+        }
     }
 
     /**
@@ -186,44 +308,183 @@ public class TaskExecutorsManager {
     }
 
     /**
-     * Binds a worker method to some task executors via {@link WorkerTask}s.
+     * Adjusts the policy supervising the failed runs of the tasks bound by this manager, the policy
+     * applies to the tasks bound afterwards, default is {@link SupervisionPolicy#RESUME}.
+     *
+     * @param supervisionPolicy the supervision policy of the bound tasks (non-nullable)
+     * @throws IllegalArgumentException if the policy is null
+     */
+    public void setSupervisionPolicy(SupervisionPolicy supervisionPolicy) {
+        if (supervisionPolicy == null) {
+            throw new IllegalArgumentException("Nullary SupervisionPolicy is not allowed!");
+        }
+        this.supervisionPolicy = supervisionPolicy;
+    }
+
+    /**
+     * Retrieves the policy supervising the failed runs of the tasks bound by this manager.
+     *
+     * @return the supervision policy of the bound tasks (non-nullable)
+     */
+    public SupervisionPolicy getSupervisionPolicy() {
+        return supervisionPolicy;
+    }
+
+    /**
+     * Adjusts the sink reporting the failures caught by this manager, the executors
+     * report their failures to their own sinks, default is {@link ErrorSink#DEFAULT}.
+     *
+     * @param errorSink the new error sink (non-nullable)
+     * @throws IllegalArgumentException if the error sink is null
+     */
+    public void setErrorSink(ErrorSink errorSink) {
+        if (errorSink == null) {
+            throw new IllegalArgumentException("Nullary ErrorSink is not allowed!");
+        }
+        this.errorSink = errorSink;
+    }
+
+    /**
+     * Retrieves the sink reporting the failures caught by this manager.
+     *
+     * @return the error sink of this manager (non-nullable)
+     */
+    public ErrorSink getErrorSink() {
+        return errorSink;
+    }
+
+    /**
+     * Describes the annotated methods of a worker class validating their signatures against the
+     * method arguments type, from the generated {@link WorkerBinder} of the class if found, or reflectively otherwise
+     * including the annotated methods inherited from the super-classes as resolved by {@link WorkerMethods}.
+     *
+     * @param workerClass the worker class to describe
+     * @param argumentsType the type of the method arguments to be passed to the methods
+     * @return a list of validated method descriptors
+     * @throws IllegalArgumentException if a method signature is invalid, or if a method is inaccessible
+     */
+    protected List<MethodDescriptor> describeWorker(Class<? extends Worker> workerClass,
+                                                    Class<? extends MethodArguments> argumentsType) {
+        final WorkerBinder binder = WorkerBinders.getWorkerBinder(workerClass);
+        /* The descriptors are built once per worker class, only their validation is repeated on each bind */
+        final List<MethodDescriptor> descriptors = binder != null ? List.of(binder.getMethodDescriptors())
+                                                                  : WorkerMethods.getMethodDescriptors(workerClass);
+        for (MethodDescriptor descriptor : descriptors) {
+            descriptor.validate(argumentsType, getClass());
+        }
+        return descriptors;
+    }
+
+    /**
+     * Validates the executors of a method descriptor against the registered task executors.
+     *
+     * @param descriptor the method descriptor to validate
+     * @throws IllegalStateException if the method specifies an unregistered task executor
+     */
+    protected void validateExecutors(MethodDescriptor descriptor) {
+        for (String executorName : descriptor.getExecutors()) {
+            if (taskExecutors.get(executorName) == null) {
+                throw new IllegalStateException(executorName + " TaskExecutor is not found!");
+            }
+        }
+    }
+
+    /**
+     * Binds a described worker method to its task executors via {@link WorkerTask}s.
      * 
-     * @param executors task executors key in the map
      * @param worker the worker class containing the runnable annotated methods
-     * @param method the method to bind
+     * @param descriptor the validated descriptor of the method to bind
      * @param args the method arguments object
      */
-    protected void bind(String[] executors, Worker worker, Method method,
-                                               MethodArguments args) {
-        for (String executorName : executors) {
+    protected void bind(Worker worker, MethodDescriptor descriptor, MethodArguments args) {
+        for (String executorName : descriptor.getExecutors()) {
             /* Submits a task on the specified executor */
             TaskExecutor taskExecutor = taskExecutors.get(executorName);
-            bind(taskExecutor, worker, method, args);
+            bind(taskExecutor, worker, descriptor, args);
         }
     }
 
     /**
-     * Binds a method to a task executor instance by wrapping it into a {@link WorkerTask}.
+     * Binds a described method to a task executor instance by wrapping it into a {@link WorkerTask}.
      *
      * @param taskExecutor the executor instance
      * @param worker the worker class containing the runnable annotated methods
-     * @param method the method to wrap as a task
+     * @param descriptor the validated descriptor of the method to wrap as a task
      * @param args the method arguments, or null for nullary methods
      */
-    protected void bind(TaskExecutor taskExecutor, Worker worker, Method method, MethodArguments args) {
+    protected void bind(TaskExecutor taskExecutor, Worker worker, MethodDescriptor descriptor, MethodArguments args) {
         /* binds the method invocation to the specified executor object */
-        taskExecutor.addTask(method, new WorkerTask() {
-            @Override
-            public Object call() {
-                /* The Triple Check Pattern (No. of parameters - Input args - Types compatibility) */
-                if (method.getParameters() != null) {
-                    return executeMethod(worker, method, args, TaskExecutorsManager.this);
-                } else {
-                    /* Force null args for non-parameterized methods */
-                    return executeMethod(worker, method, null, TaskExecutorsManager.this);
+        final WorkerTask task = createWorkerTask(worker, descriptor, args);
+        task.setDescriptor(descriptor);
+        task.setWorkerClass(worker.getClass());
+        task.setPriority(descriptor.getPriority());
+        task.setOrder(descriptor.getOrder());
+        task.setSupervisionPolicy(supervisionPolicy);
+        taskExecutor.addTask(descriptor.getName(), task);
+    }
+
+    /**
+     * Creates a new {@link WorkerTask} for a described method, override this method to specialize
+     * the tasks by the method signature (e.g. by the return type), batch methods are bound as {@link BatchWorkerTask}s.
+     *
+     * @param worker the worker class containing the runnable annotated methods
+     * @param descriptor the validated descriptor of the method
+     * @param args the method arguments, or null for nullary methods
+     * @return a new worker task instance
+     */
+    protected WorkerTask createWorkerTask(Worker worker, MethodDescriptor descriptor, MethodArguments args) {
+        if (descriptor.isBatched()) {
+            final MethodInvoker invoker = descriptor.getInvoker();
+            return new BatchWorkerTask(args, descriptor.getMaxBatchSize()) {
+                @Override
+                protected Object call(BatchArguments batch) throws Exception {
+                    return executeMethod(worker, invoker, batch, TaskExecutorsManager.this);
                 }
+            };
+        }
+        return createWorkerTask(worker, descriptor.getInvoker(), args);
+    }
+
+    /**
+     * Creates a new {@link WorkerTask} dispatching a resolved method invoker, override this method
+     * to provide a specialized type of tasks.
+     *
+     * @param worker the worker class containing the runnable annotated methods
+     * @param invoker the resolved invoker of the method
+     * @param args the method arguments, or null for nullary methods
+     * @return a new worker task instance
+     */
+    protected WorkerTask createWorkerTask(Worker worker, MethodInvoker invoker, MethodArguments args) {
+        return new WorkerTask() {
+            @Override
+            public Object call() throws Exception {
+                return executeMethod(worker, invoker, pollArguments(args), TaskExecutorsManager.this);
             }
-        });
+        };
+    }
+
+    /**
+     * Executes a resolved method invoker passing in its arguments object and the binder object.
+     *
+     * @param worker the worker class containing the runnable annotated methods
+     * @param invoker the resolved invoker of the method
+     * @param args the method arguments data structure, or null for nullary methods
+     * @param taskExecutorsManager the task binder object
+     * @return the return value of the method execution
+     * @throws Exception if the method fails, checked throwables other than exceptions are wrapped into an {@link ExecutionException},
+     *                   so that the failed task is supervised by its {@link SupervisionPolicy}, {@link Error}s propagate
+     *                   unwrapped as no task could recover from them (e.g. {@link OutOfMemoryError})
+     */
+    protected Object executeMethod(Worker worker, MethodInvoker invoker, MethodArguments args,
+                                   TaskExecutorsManager taskExecutorsManager) throws Exception {
+        try {
+            return invoker.invoke(worker, args, taskExecutorsManager);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            /* Checked throwables surfaced by the method handle, neither exceptions nor errors */
+            throw new ExecutionException(e);
+        }
     }
 
     /**
@@ -236,7 +497,10 @@ public class TaskExecutorsManager {
      * @param args the method arguments data structure
      * @param taskExecutorsManager the task binder object
      * @return the return value of the method execution
+     * @deprecated reflective invocation validates the method on every call, use
+     *             {@link TaskExecutorsManager#executeMethod(Worker, MethodInvoker, MethodArguments, TaskExecutorsManager)} instead
      */
+    @Deprecated
     protected Object executeMethod(Worker worker, Method method, MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
         try {
             if (args != null && args.getArgs() != null) {
@@ -248,7 +512,7 @@ public class TaskExecutorsManager {
                 return method.invoke(worker, taskExecutorsManager);
             }
         } catch (IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
+            errorSink.report(worker, e);
             return null;
         }
     }
@@ -0,0 +1,195 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.util.Tasks;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Declares the dependencies between worker tasks as a directed acyclic graph, executing each task
+ * on its own executor as soon as the tasks it depends on have completed, tasks with no dependencies between
+ * them run in parallel on their executors.
+ *
+ * <p> A graph replaces the chaining of worker tasks by activating the dependent tasks from within the
+ * worker methods, e.g:
+ * <pre>
+ * TaskGraph graph = new TaskGraph();
+ * TaskGraph.Node sky = graph.addTask(ASSET_LOADER, "setupSky");
+ * TaskGraph.Node scene = graph.addTask(JME_EXECUTOR, "setupScene", sky);
+ * graph.execute(taskExecutorsManager);
+ * </pre>
+ *
+ * <p> A task could only depend on tasks previously added to its graph, so a graph is acyclic
+ * by construction, each task of a graph runs once per graph execution, dependent tasks could retrieve
+ * the results of their dependencies using {@link Tasks#getWorkerTaskResult(TaskExecutorsManager, String, String)}.
+ *
+ * @author pavl_g
+ */
+public class TaskGraph {
+
+    /**
+     * The graph nodes in their insertion order (a topological order).
+     */
+    protected final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Adds a worker task to this graph.
+     *
+     * @param executor the name of the executor holding the task (as registered) (non-nullable)
+     * @param task the name of the task (usually the name of the worker method) (non-nullable)
+     * @param dependencies the nodes of this graph that must complete before running this task
+     * @return a node representing the task in this graph
+     * @throws IllegalArgumentException if the executor or the task is null, if the task is already in this graph, or a dependency is not in this graph
+     */
+    public Node addTask(String executor, String task, Node... dependencies) {
+        if (executor == null || task == null) {
+            throw new IllegalArgumentException("Nullary executor or task is not allowed!");
+        }
+        for (Node node : nodes) {
+            if (node.executor.equals(executor) && node.task.equals(task)) {
+                throw new IllegalArgumentException("Task " + executor + "/" + task + " is already in this graph!");
+            }
+        }
+        for (Node dependency : dependencies) {
+            if (dependency == null || dependency.graph != this) {
+                throw new IllegalArgumentException("Dependencies of " + executor + "/" + task + " must be added to this graph first!");
+            }
+        }
+        final Node node = new Node(this, nodes.size(), executor, task, List.of(dependencies));
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * Executes the tasks of this graph, each task is activated as soon as its dependencies have completed,
+     * if a task fails, the tasks depending on it are not executed.
+     *
+     * @param taskExecutorsManager the manager holding the registered executors and their bound tasks (non-nullable)
+     * @return a future completed when all the tasks of this graph have completed, or exceptionally if any of them fails
+     * @throws IllegalStateException if any task of this graph is not found
+     */
+    public CompletableFuture<Void> execute(TaskExecutorsManager taskExecutorsManager) {
+        /* Resolves all the tasks before activating any of them */
+        final WorkerTask[] tasks = new WorkerTask[nodes.size()];
+        for (Node node : nodes) {
+            tasks[node.index] = Tasks.getWorkerTask(taskExecutorsManager, node.executor, node.task);
+        }
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[nodes.size()];
+        for (Node node : nodes) {
+            final WorkerTask task = tasks[node.index];
+            if (node.dependencies.isEmpty()) {
+                futures[node.index] = executeTask(task);
+                continue;
+            }
+            final CompletableFuture<?>[] dependencies = new CompletableFuture<?>[node.dependencies.size()];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = futures[node.dependencies.get(i).index];
+            }
+            /* Activates the task from the thread completing its last dependency */
+            futures[node.index] = CompletableFuture.allOf(dependencies)
+                                                   .thenCompose(ignored -> executeTask(task));
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Retrieves the nodes of this graph in their insertion order.
+     *
+     * @return an unmodifiable list of the graph nodes
+     */
+    public List<Node> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Activates a graph task for a single run, tasks of executors that keep running their active
+     * tasks (e.g. the frame-based executors) are deactivated after their first completed run.
+     *
+     * @param task the task to execute
+     * @return a future completed by the return value of the task run
+     */
+    protected CompletableFuture<Object> executeTask(WorkerTask task) {
+        return task.submit().whenComplete((result, error) -> task.setActive(false));
+    }
+
+    /**
+     * Represents a worker task in a {@link TaskGraph}.
+     *
+     * @author pavl_g
+     */
+    public static final class Node {
+
+        private final TaskGraph graph;
+        private final int index;
+        private final String executor;
+        private final String task;
+        private final List<Node> dependencies;
+
+        private Node(TaskGraph graph, int index, String executor, String task, List<Node> dependencies) {
+            this.graph = graph;
+            this.index = index;
+            this.executor = executor;
+            this.task = task;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Retrieves the name of the executor holding this task.
+         *
+         * @return the name of the executor (as registered)
+         */
+        public String getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Retrieves the name of this task.
+         *
+         * @return the name of the task (usually the name of the worker method)
+         */
+        public String getTask() {
+            return task;
+        }
+
+        /**
+         * Retrieves the nodes this task depends on.
+         *
+         * @return an unmodifiable list of the dependency nodes
+         */
+        public List<Node> getDependencies() {
+            return dependencies;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe registry of {@link WorkerTask}s holding the tasks of a {@link TaskExecutor}, the registry
+ * is a map of tasks by their names backed by a copy-on-write array of slots.
+ *
+ * <p> Each registered task is assigned a stable integer id representing its slot, the id is kept as long as the
+ * task is registered (re-registering a name keeps its slot), and could be resolved via {@link TaskRegistry#get(int)}.
+ *
+ * <p> Executors scan the array snapshot retrieved via {@link TaskRegistry#getSnapshot()}, so that a pass over the tasks
+ * is a plain indexed scan that requires neither hash lookups nor iterators allocations, while writers (binding, unbinding)
+ * republish a new array.
+ *
+ * <p> The snapshot is sorted in the scan order of the tasks: from the highest {@link WorkerTask#getPriority()} to the lowest,
+ * then by an ascending {@link WorkerTask#getOrder()}, then by the registration order (the ids), so that the scan order is
+ * deterministic and doesn't change as other tasks are registered.
+ *
+ * <p> Activated tasks are tracked by the {@link ActiveSet} of the snapshot retrieved via {@link TaskRegistry#getActiveSet()},
+ * so that executors visit the activated tasks only instead of testing every registered task on each pass.
+ *
+ * @author pavl_g
+ */
+public class TaskRegistry extends AbstractMap<String, WorkerTask> {
+
+    private static final WorkerTask[] EMPTY = new WorkerTask[0];
+
+    private static final Comparator<WorkerTask> SCAN_ORDER = Comparator.comparingInt(WorkerTask::getPriority)
+                                                                       .reversed()
+                                                                       .thenComparingInt(WorkerTask::getOrder)
+                                                                       .thenComparingInt(WorkerTask::getTaskId);
+
+    /**
+     * The tasks indexed by their names.
+     */
+    protected final Map<String, WorkerTask> index = new ConcurrentHashMap<>();
+
+    /**
+     * A read-only view of the indexed entries.
+     */
+    protected final Set<Entry<String, WorkerTask>> entries = Collections.unmodifiableMap(index).entrySet();
+
+    /**
+     * The copy-on-write array of slots, a removed task leaves a null slot behind.
+     */
+    protected volatile WorkerTask[] slots = EMPTY;
+
+    /**
+     * The copy-on-write array of the registered tasks sorted in their scan order.
+     */
+    protected volatile WorkerTask[] snapshot = EMPTY;
+
+    /**
+     * The set tracking the activated tasks of the current snapshot.
+     */
+    protected volatile ActiveSet activeSet = ActiveSet.EMPTY;
+
+    /**
+     * Instantiates an empty task registry.
+     */
+    public TaskRegistry() {
+    }
+
+    /**
+     * Registers a task by its name assigning it a stable id, re-registering a name replaces
+     * the old task keeping its id, the name is saved on the task (see {@link WorkerTask#getName()}).
+     *
+     * @param name the name of the task (non-nullable)
+     * @param task the task to register (non-nullable)
+     * @return the previously registered task under this name, or null if none
+     */
+    @Override
+    public synchronized WorkerTask put(String name, WorkerTask task) {
+        final WorkerTask previous = index.get(name);
+        final WorkerTask[] slots;
+        if (previous != null && previous.getTaskId() >= 0) {
+            slots = this.slots.clone();
+            task.setTaskId(previous.getTaskId());
+        } else {
+            slots = Arrays.copyOf(this.slots, this.slots.length + 1);
+            task.setTaskId(slots.length - 1);
+        }
+        slots[task.getTaskId()] = task;
+        task.setName(name);
+        index.put(name, task);
+        if (previous != null) {
+            previous.setTaskRegistry(null);
+        }
+        task.setTaskRegistry(this);
+        publish(slots);
+        return previous;
+    }
+
+    @Override
+    public synchronized WorkerTask remove(Object name) {
+        final WorkerTask task = index.remove(name);
+        if (task == null) {
+            return null;
+        }
+        final WorkerTask[] slots = this.slots.clone();
+        slots[task.getTaskId()] = null;
+        task.setTaskRegistry(null);
+        publish(slots);
+        return task;
+    }
+
+    /**
+     * Removes all the tasks, ids of the subsequently registered tasks are re-assigned from zero.
+     */
+    @Override
+    public synchronized void clear() {
+        for (WorkerTask task : index.values()) {
+            task.setTaskRegistry(null);
+        }
+        index.clear();
+        publish(EMPTY);
+    }
+
+    @Override
+    public WorkerTask get(Object name) {
+        return index.get(name);
+    }
+
+    /**
+     * Resolves a registered task by its id.
+     *
+     * @param taskId the id of the task as assigned by this registry
+     * @return the registered task, or null if no task is registered under this id
+     */
+    public WorkerTask get(int taskId) {
+        final WorkerTask[] slots = this.slots;
+        if (taskId < 0 || taskId >= slots.length) {
+            return null;
+        }
+        return slots[taskId];
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return index.containsKey(name);
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public Set<Entry<String, WorkerTask>> entrySet() {
+        return entries;
+    }
+
+    /**
+     * Retrieves the current array of the registered tasks sorted in their scan order, the returned
+     * array is shared and must not be modified.
+     *
+     * @return the current snapshot of the registered tasks
+     */
+    public WorkerTask[] getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the set tracking the activated tasks of the current snapshot, executors should visit
+     * the marked tasks of {@link ActiveSet#getTasks()} rather than scanning the whole snapshot.
+     *
+     * @return the active set of the current snapshot
+     */
+    public ActiveSet getActiveSet() {
+        return activeSet;
+    }
+
+    /**
+     * Marks an activated task in the current active set, dispatched by {@link WorkerTask#setActive(boolean)}.
+     *
+     * @param task the activated task
+     */
+    void markActive(WorkerTask task) {
+        activeSet.mark(task);
+    }
+
+    /**
+     * Publishes a new array of slots along with its scan-ordered snapshot, dispatched by the writers only.
+     *
+     * @param slots the new array of slots
+     */
+    protected void publish(WorkerTask[] slots) {
+        final WorkerTask[] snapshot = Arrays.stream(slots)
+                                            .filter(Objects::nonNull)
+                                            .sorted(SCAN_ORDER)
+                                            .toArray(WorkerTask[]::new);
+        final ActiveSet activeSet = new ActiveSet(snapshot, slots.length);
+        this.slots = slots;
+        this.snapshot = snapshot;
+        this.activeSet = activeSet;
+        /* Marks the tasks activated before the publication, later activations mark the published set */
+        for (int index = 0; index < snapshot.length; index++) {
+            final WorkerTask task = snapshot[index];
+            if (!task.isActive()) {
+                continue;
+            }
+            activeSet.mark(index);
+            /* Notifies the executor again, which could have missed the mark while scanning the published set */
+            final TaskExecutor taskExecutor = task.getTaskExecutor();
+            if (taskExecutor != null) {
+                taskExecutor.onTaskActivated(task);
+            }
+        }
+    }
+}
@@ -31,16 +31,49 @@
 
 package com.avrsandbox.jector.core.work;
 
+import com.avrsandbox.jector.core.command.BatchArguments;
+import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.command.MethodDescriptor;
+import com.avrsandbox.jector.core.error.ErrorSink;
+import com.avrsandbox.jector.core.metrics.TaskMetrics;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Defines a task for a worker object, a task maps a method to be
  * executed with the annotated {@link TaskExecutor}.
+ *
+ * <p> A task could be activated with its own arguments via {@link WorkerTask#activate(MethodArguments)}, the
+ * arguments are queued together with the activation, and are consumed by the run serving the activation
+ * in place of the arguments passed on binding.
+ *
+ * <p> A failed run is supervised by the {@link SupervisionPolicy} of the task, which decides whether the task
+ * is resumed, restarted or deactivated, without affecting the other tasks of its executor.
  * 
  * @author pavl_g
  */
 public abstract class WorkerTask implements Callable<Object> {
 
+    private static final VarHandle ACTIVE;
+
+    static {
+        try {
+            ACTIVE = MethodHandles.lookup().findVarHandle(WorkerTask.class, "active", boolean.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * A thread-safe flag to enable/disable this task.
      */
@@ -52,12 +85,370 @@ public abstract class WorkerTask implements Callable<Object> {
      */
     protected volatile Object result;
 
+    /**
+     * An optional channel streaming the results of the completed runs, "null" if the results
+     * are not streamed.
+     */
+    protected volatile ResultChannel<?> resultChannel;
+
+    /**
+     * The executor holding this task, notified when this task is activated.
+     */
+    protected volatile TaskExecutor taskExecutor;
+
+    /**
+     * The id of this task as assigned by the {@link TaskRegistry} of its executor, "-1"
+     * if this task is not registered.
+     */
+    protected volatile int taskId = -1;
+
+    /**
+     * The registry holding this task, notified when this task is activated, "null" if this task is not registered.
+     */
+    protected volatile TaskRegistry taskRegistry;
+
+    /**
+     * The descriptor of the method mapped to this task, validating the arguments of the activations, "null"
+     * if this task is not bound by a {@link TaskExecutorsManager}.
+     */
+    protected volatile MethodDescriptor descriptor;
+
+    /**
+     * The name of this task as registered by its executor, usually the name of its worker method, "null"
+     * if this task is not registered.
+     */
+    protected volatile String name;
+
+    /**
+     * The class of the worker holding the method mapped to this task, "null" if this task is not bound
+     * by a {@link TaskExecutorsManager}.
+     */
+    protected volatile Class<?> workerClass;
+
+    /**
+     * The priority of this task within its executor, tasks of higher priorities are scanned first.
+     */
+    protected volatile int priority;
+
+    /**
+     * The order of this task among the tasks of the same priority, tasks are scanned in an ascending order.
+     */
+    protected volatile int order;
+
+    /**
+     * The futures awaiting the next completed run of this task.
+     */
+    protected final Queue<CompletableFuture<Object>> pendingResults = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The futures detached from the pending futures by the current activation, completed by its last run,
+     * accessed by the running thread only.
+     */
+    protected final Queue<CompletableFuture<Object>> runningResults = new ArrayDeque<>();
+
+    /**
+     * The execution metrics of this task.
+     */
+    protected final TaskMetrics metrics = new TaskMetrics();
+
+    /**
+     * The {@link System#nanoTime()} of the last activation of this task, "0" if it's consumed by a run.
+     */
+    protected volatile long activationTime;
+
+    /**
+     * The pending activations carrying their own arguments, consumed in their activation order.
+     */
+    protected final Queue<Activation> pendingActivations = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The activations consumed by the current run, accessed by the running thread only.
+     */
+    protected final Queue<Activation> runningActivations = new ArrayDeque<>();
+
+    /**
+     * The policy supervising the failed runs of this task.
+     */
+    protected volatile SupervisionPolicy supervisionPolicy = SupervisionPolicy.RESUME;
+
+    /**
+     * The number of the consecutive failed runs of this task, reset by a completed run.
+     */
+    protected volatile int failures;
+
+    /**
+     * The delayed restart of this task scheduled by its {@link SupervisionPolicy}, cancelled by {@link WorkerTask#cancel()},
+     * "null" if no restart is scheduled.
+     */
+    protected volatile ScheduledFuture<?> restart;
+
     /**
      * Instantiates a worker task mapping a method to be executed.
      */
     public WorkerTask() {
     }
 
+    /**
+     * Runs this task once via {@link WorkerTask#call()}, saving its result and completing the futures
+     * awaiting it, executors should dispatch this method to run their tasks, so that the run is recorded
+     * by the {@link TaskMetrics} of this task.
+     *
+     * @return the return result of this run
+     * @throws Exception if the run fails, the awaiting futures are completed exceptionally, and the
+     *                   task is supervised by its {@link SupervisionPolicy}, {@link Error}s complete the
+     *                   awaiting futures exceptionally and propagate unsupervised
+     */
+    public Object execute() throws Exception {
+        final long startTime = System.nanoTime();
+        final long activationTime = this.activationTime;
+        if (activationTime != 0) {
+            this.activationTime = 0;
+            metrics.recordActivationDelay(startTime - activationTime);
+        }
+        if (isCompleted()) {
+            /* A new activation starts, the futures submitted meanwhile await the next activation */
+            CompletableFuture<Object> future;
+            while ((future = pendingResults.poll()) != null) {
+                runningResults.add(future);
+            }
+        }
+        final Object result;
+        try {
+            result = call();
+        } catch (Exception e) {
+            metrics.recordExecution(System.nanoTime() - startTime, true);
+            completeExceptionally(e);
+            supervise(e);
+            throw e;
+        } catch (Error e) {
+            /* Errors are not supervised, the awaiting futures are failed rather than left pending */
+            completeExceptionally(e);
+            throw e;
+        }
+        metrics.recordExecution(System.nanoTime() - startTime, false);
+        failures = 0;
+        if (isCompleted()) {
+            complete(result);
+        }
+        /* Executors deactivate a task before running it, activations left over are kept active */
+        if (!pendingActivations.isEmpty() || !pendingResults.isEmpty()) {
+            setActive(true);
+        }
+        return result;
+    }
+
+    /**
+     * Applies the directive of the {@link SupervisionPolicy} to this task after a failed run, dispatched
+     * by the thread running this task.
+     *
+     * @param error the failure of the run
+     */
+    protected void supervise(Throwable error) {
+        final int failures = ++this.failures;
+        final SupervisionPolicy supervisionPolicy = this.supervisionPolicy;
+        switch (supervisionPolicy.onFailure(this, error, failures)) {
+            case RESTART:
+                /* Never restarts inline, a task failing on each run would spin on its executor */
+                final long delay = Math.max(supervisionPolicy.getRestartDelay(this, failures),
+                                            SupervisionPolicy.MIN_RESTART_DELAY_NANOS);
+                setActive(false);
+                /* Restarts unless this task has run again, or its executor has terminated meanwhile */
+                restart = Restarts.SCHEDULER.schedule(() -> {
+                    final TaskExecutor taskExecutor = this.taskExecutor;
+                    if (this.failures == failures && (taskExecutor == null || !taskExecutor.isTerminated())) {
+                        setActive(true);
+                    }
+                }, delay, TimeUnit.NANOSECONDS);
+                return;
+            case DEACTIVATE:
+                setActive(false);
+                failPendingActivations(error);
+                return;
+            default:
+                /* Executors deactivate a task before running it, activations left over are kept active */
+                if (!pendingActivations.isEmpty() || !pendingResults.isEmpty()) {
+                    setActive(true);
+                }
+        }
+    }
+
+    /**
+     * Tests whether this task has work awaited by others, i.e. activations carrying their own arguments, futures
+     * awaiting its next run, or an activation spread over several runs not yet completed (see {@link WorkerTask#isCompleted()}).
+     *
+     * @return true if this task has pending work, false otherwise
+     */
+    public boolean hasPendingWork() {
+        return !pendingActivations.isEmpty() || !pendingResults.isEmpty() || !isCompleted();
+    }
+
+    /**
+     * Deactivates this task, cancels its delayed restart, and cancels the futures awaiting its pending activations,
+     * dispatched by the executors on their termination, so that no future awaits a task that never runs again, the
+     * futures awaiting a run in progress are completed by the run.
+     */
+    public void cancel() {
+        final ScheduledFuture<?> restart = this.restart;
+        if (restart != null) {
+            restart.cancel(false);
+        }
+        setActive(false);
+        final CancellationException error = new CancellationException("WorkerTask is cancelled!");
+        CompletableFuture<Object> future;
+        while ((future = pendingResults.poll()) != null) {
+            future.completeExceptionally(error);
+        }
+        failPendingActivations(error);
+    }
+
+    private void failPendingActivations(Throwable error) {
+        Activation activation;
+        while ((activation = pendingActivations.poll()) != null) {
+            if (activation.future != null) {
+                activation.future.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Tests whether the last run has completed the current activation of this task, the futures awaiting
+     * the activation are completed by its last run, subtypes spreading an activation over several runs
+     * (e.g. resumable tasks) override this method to keep the futures pending.
+     *
+     * @return true if the last run has completed the activation, false otherwise
+     */
+    protected boolean isCompleted() {
+        return true;
+    }
+
+    /**
+     * Activates this task and retrieves a future completed by the next activation of this task, if this
+     * task is already running, the future awaits the run following the current one, so that it's never
+     * completed by a run started before its submission.
+     *
+     * <p> Dependent actions of the future run on the executor thread completing it unless they are
+     * dispatched asynchronously (e.g. {@link CompletableFuture#thenAcceptAsync(java.util.function.Consumer, java.util.concurrent.Executor)}).
+     *
+     * @return a future completed by the return result of the next activation of this task
+     */
+    public CompletableFuture<Object> submit() {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        pendingResults.add(future);
+        setActive(true);
+        return future;
+    }
+
+    /**
+     * Queues an activation carrying its own arguments and activates this task, the arguments
+     * reach the run serving this activation in place of the arguments passed on binding.
+     *
+     * @param arguments the arguments of this activation (non-nullable)
+     * @throws IllegalArgumentException if the arguments are null, or if the method mapped to this task
+     *                                  doesn't accept them (see {@link MethodDescriptor#validateArguments(MethodArguments)})
+     */
+    public void activate(MethodArguments arguments) {
+        activate(arguments, null);
+    }
+
+    /**
+     * Queues an activation carrying its own arguments and retrieves a future completed by
+     * the run serving this activation.
+     *
+     * @param arguments the arguments of this activation (non-nullable)
+     * @return a future completed by the return result of the run consuming the arguments
+     * @throws IllegalArgumentException if the arguments are null, or if the method mapped to this task
+     *                                  doesn't accept them (see {@link MethodDescriptor#validateArguments(MethodArguments)})
+     */
+    public CompletableFuture<Object> submit(MethodArguments arguments) {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        activate(arguments, future);
+        return future;
+    }
+
+    private void activate(MethodArguments arguments, CompletableFuture<Object> future) {
+        if (arguments == null) {
+            throw new IllegalArgumentException("Nullary MethodArguments is not allowed!");
+        }
+        final MethodDescriptor descriptor = this.descriptor;
+        if (descriptor != null) {
+            descriptor.validateArguments(arguments);
+        }
+        pendingActivations.add(new Activation(arguments, future));
+        setActive(true);
+    }
+
+    /**
+     * Consumes the arguments of the next pending activation for the current run, dispatched by
+     * the {@link WorkerTask#call()} implementations.
+     *
+     * @param boundArguments the arguments passed on binding
+     * @return the arguments of the next pending activation, or the bound arguments if no activation is pending
+     */
+    protected MethodArguments pollArguments(MethodArguments boundArguments) {
+        final Activation activation = pendingActivations.poll();
+        if (activation == null) {
+            return boundArguments;
+        }
+        runningActivations.add(activation);
+        return activation.arguments;
+    }
+
+    /**
+     * Consumes up to a maximum batch size of the pending activations into a batch for the current run, dispatched
+     * by the batch tasks (e.g. {@link BatchWorkerTask}), the futures of the consumed activations are completed by the run.
+     *
+     * @param batch the batch collecting the arguments of the consumed activations
+     * @param maxBatchSize the maximum size of the batch
+     * @return the batch of the consumed activations
+     */
+    protected BatchArguments pollArguments(BatchArguments batch, int maxBatchSize) {
+        MethodArguments arguments;
+        while (batch.size() < maxBatchSize && (arguments = pollArguments(null)) != null) {
+            batch.add(arguments);
+        }
+        return batch;
+    }
+
+    /**
+     * Saves the result of a completed run and completes the futures awaiting the current activation,
+     * the futures submitted after the activation has started await the next activation, the result is
+     * streamed to the result channel once the futures are completed.
+     *
+     * @param result the return result of the completed run
+     */
+    public void complete(Object result) {
+        this.result = result;
+        CompletableFuture<Object> future;
+        while ((future = runningResults.poll()) != null) {
+            future.complete(result);
+        }
+        Activation activation;
+        while ((activation = runningActivations.poll()) != null) {
+            if (activation.future != null) {
+                activation.future.complete(result);
+            }
+        }
+        offerResult(result);
+    }
+
+    /**
+     * Completes the futures awaiting the current run exceptionally.
+     *
+     * @param error the failure of the current run
+     */
+    public void completeExceptionally(Throwable error) {
+        CompletableFuture<Object> future;
+        while ((future = runningResults.poll()) != null) {
+            future.completeExceptionally(error);
+        }
+        Activation activation;
+        while ((activation = runningActivations.poll()) != null) {
+            if (activation.future != null) {
+                activation.future.completeExceptionally(error);
+            }
+        }
+    }
+
     /**
      * Sets the return result of this task, "null" if a task to a void
      * method is specified.
@@ -66,15 +457,186 @@ public abstract class WorkerTask implements Callable<Object> {
      */
     public void setResult(Object result) {
         this.result = result;
+        offerResult(result);
+    }
+
+    /**
+     * Streams a result to the result channel if attached, a result rejected by the channel is reported
+     * to the {@link ErrorSink} of the executor holding this task rather than failing the run.
+     *
+     * @param result the result to stream
+     */
+    protected void offerResult(Object result) {
+        final ResultChannel<?> resultChannel = this.resultChannel;
+        if (resultChannel == null) {
+            return;
+        }
+        try {
+            resultChannel.offer(result);
+        } catch (RuntimeException e) {
+            final TaskExecutor taskExecutor = this.taskExecutor;
+            (taskExecutor != null ? taskExecutor.getErrorSink() : ErrorSink.DEFAULT).report(this, e);
+        }
+    }
+
+    /**
+     * Attaches a channel streaming the results of the subsequent completed runs of this task, so that
+     * consumers reading late don't lose the intermediate results overwritten by {@link WorkerTask#setResult(Object)}.
+     *
+     * @param resultChannel the channel to stream the results to, or null to stop streaming
+     * @throws IllegalArgumentException if the results of the method mapped to this task are never of
+     *                                  the type of the channel (e.g. a channel of strings for a method returning int)
+     */
+    public void setResultChannel(ResultChannel<?> resultChannel) {
+        final MethodDescriptor descriptor = this.descriptor;
+        if (resultChannel != null && descriptor != null && descriptor.getReturnType() != void.class) {
+            /* Primitive results are streamed boxed, channels of a super-type or a sub-type could accept the results */
+            final Class<?> returnType = MethodType.methodType(descriptor.getReturnType()).wrap().returnType();
+            final Class<?> channelType = resultChannel.getType();
+            if (!channelType.isAssignableFrom(returnType) && !returnType.isAssignableFrom(channelType)) {
+                throw new IllegalArgumentException(descriptor.getName() + "(...) results are not of "
+                                                   + channelType.getName() + " type!");
+            }
+        }
+        this.resultChannel = resultChannel;
     }
 
     /**
-     * Marks this task as enabled/disabled, default value is "false".
+     * Retrieves the channel streaming the results of this task.
+     *
+     * @return the result channel of this task, "null" if the results are not streamed
+     */
+    public ResultChannel<?> getResultChannel() {
+        return resultChannel;
+    }
+
+    /**
+     * Marks this task as enabled/disabled, default value is "false", enabling an inactive task marks it
+     * in the {@link ActiveSet} of its registry, and notifies its executor via {@link TaskExecutor#onTaskActivated(WorkerTask)}.
      * 
      * @param active true to enable this task, false otherwise
      */
     public void setActive(boolean active) {
-        this.active = active;
+        if (active && !this.active) {
+            activationTime = System.nanoTime();
+        }
+        final boolean previous = (boolean) ACTIVE.getAndSet(this, active);
+        if (!active || previous) {
+            return;
+        }
+        final TaskRegistry taskRegistry = this.taskRegistry;
+        if (taskRegistry != null) {
+            taskRegistry.markActive(this);
+        }
+        final TaskExecutor taskExecutor = this.taskExecutor;
+        if (taskExecutor != null) {
+            taskExecutor.onTaskActivated(this);
+        }
+    }
+
+    /**
+     * Attaches this task to the executor holding it, dispatched by
+     * {@link TaskExecutor#addTask(String, WorkerTask)}.
+     *
+     * @param taskExecutor the executor holding this task
+     */
+    public void setTaskExecutor(TaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Attaches the descriptor of the method mapped to this task, dispatched by the {@link TaskExecutorsManager}
+     * binding this task, so that the arguments of the activations are validated on activation.
+     *
+     * @param descriptor the descriptor of the method mapped to this task, or null to skip the validation
+     */
+    public void setDescriptor(MethodDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Retrieves the descriptor of the method mapped to this task.
+     *
+     * @return the descriptor of the method, "null" if this task is not bound by a {@link TaskExecutorsManager}
+     */
+    public MethodDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Attaches the class of the worker holding the method mapped to this task, dispatched by
+     * the {@link TaskExecutorsManager} binding this task.
+     *
+     * @param workerClass the class of the worker holding the method
+     */
+    public void setWorkerClass(Class<?> workerClass) {
+        this.workerClass = workerClass;
+    }
+
+    /**
+     * Retrieves the class of the worker holding the method mapped to this task.
+     *
+     * @return the class of the worker, "null" if this task is not bound by a {@link TaskExecutorsManager}
+     */
+    public Class<?> getWorkerClass() {
+        return workerClass;
+    }
+
+    /**
+     * Retrieves the name of this task as registered by its executor.
+     *
+     * @return the name of this task, "null" if this task is not registered
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Assigns the name of this task, dispatched by the {@link TaskRegistry} and the {@link TaskExecutor}
+     * registering this task.
+     *
+     * @param name the name of this task
+     */
+    void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the stable id of this task as assigned by the {@link TaskRegistry} of its executor, the task
+     * could be resolved later by its id via {@link com.avrsandbox.jector.util.Tasks#getWorkerTask(TaskExecutorsManager, String, int)}.
+     *
+     * @return the id of this task, "-1" if this task is not registered
+     */
+    public int getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * Assigns the id of this task, dispatched by the {@link TaskRegistry} registering this task.
+     *
+     * @param taskId the id of this task
+     */
+    void setTaskId(int taskId) {
+        this.taskId = taskId;
+    }
+
+    /**
+     * Attaches this task to the registry holding it, dispatched by the {@link TaskRegistry} registering
+     * or unregistering this task.
+     *
+     * @param taskRegistry the registry holding this task, or null if this task is unregistered
+     */
+    void setTaskRegistry(TaskRegistry taskRegistry) {
+        this.taskRegistry = taskRegistry;
+    }
+
+    /**
+     * Retrieves the executor holding this task.
+     *
+     * @return the executor holding this task, "null" if this task is not added to an executor yet
+     */
+    public TaskExecutor getTaskExecutor() {
+        return taskExecutor;
     }
 
     /**
@@ -87,6 +649,18 @@ public abstract class WorkerTask implements Callable<Object> {
         return result;
     }
 
+    /**
+     * Retrieves the return result value of this task checked against a type.
+     *
+     * @param type the expected type of the result, the wrapper type for primitive results (non-nullable)
+     * @param <T> the type of the result
+     * @return the return result of this task, "null" if a void method is mapped to this task instance
+     * @throws ClassCastException if the result is not of the expected type
+     */
+    public <T> T getResult(Class<T> type) {
+        return type.cast(result);
+    }
+
     /**
      * Tests whether this task is enabled, default value is "false".
      * 
@@ -95,4 +669,137 @@ public abstract class WorkerTask implements Callable<Object> {
     public boolean isActive() {
         return active;
     }
+
+    /**
+     * Retrieves the execution metrics of this task.
+     *
+     * @return the metrics of this task (non-nullable)
+     */
+    public TaskMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Adjusts the priority of this task within its executor, the priority takes
+     * effect when the task is registered to its executor.
+     *
+     * @param priority the priority of this task, tasks of higher priorities are scanned first
+     */
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the priority of this task within its executor.
+     *
+     * @return the priority of this task
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Adjusts the order of this task among the tasks of the same priority, the order
+     * takes effect when the task is registered to its executor.
+     *
+     * @param order the order of this task, tasks are scanned in an ascending order
+     */
+    public void setOrder(int order) {
+        this.order = order;
+    }
+
+    /**
+     * Retrieves the order of this task among the tasks of the same priority.
+     *
+     * @return the order of this task
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Adjusts the policy supervising the failed runs of this task, default is {@link SupervisionPolicy#RESUME}.
+     *
+     * @param supervisionPolicy the supervision policy of this task (non-nullable)
+     * @throws IllegalArgumentException if the policy is null
+     */
+    public void setSupervisionPolicy(SupervisionPolicy supervisionPolicy) {
+        if (supervisionPolicy == null) {
+            throw new IllegalArgumentException("Nullary SupervisionPolicy is not allowed!");
+        }
+        this.supervisionPolicy = supervisionPolicy;
+    }
+
+    /**
+     * Retrieves the policy supervising the failed runs of this task.
+     *
+     * @return the supervision policy of this task (non-nullable)
+     */
+    public SupervisionPolicy getSupervisionPolicy() {
+        return supervisionPolicy;
+    }
+
+    /**
+     * Retrieves the number of the consecutive failed runs of this task.
+     *
+     * @return the number of the failures since the last completed run
+     */
+    public int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Describes this task by the worker class, the method mapped to this task and its registered name,
+     * e.g. "WorkerTask[com.example.Entity#update(...) as update]", so that the failures reported by
+     * the executors identify the failed task.
+     *
+     * @return a description of this task
+     */
+    @Override
+    public String toString() {
+        final Class<?> workerClass = this.workerClass;
+        final MethodDescriptor descriptor = this.descriptor;
+        /* Unbound tasks are described by their own type */
+        final String owner = workerClass != null ? workerClass.getName() : getClass().getName();
+        final String method = descriptor != null ? descriptor.getName() : "call";
+        return "WorkerTask[" + owner + "#" + method + "(...) as " + name + "]";
+    }
+
+    /**
+     * Represents a pending activation carrying its own arguments.
+     */
+    protected static final class Activation {
+
+        /**
+         * The arguments of the activation.
+         */
+        protected final MethodArguments arguments;
+
+        /**
+         * The future awaiting the run serving the activation, or null if no future is awaiting it.
+         */
+        protected final CompletableFuture<Object> future;
+
+        private Activation(MethodArguments arguments, CompletableFuture<Object> future) {
+            this.arguments = arguments;
+            this.future = future;
+        }
+    }
+
+    /**
+     * Holds the daemon thread restarting the failed tasks after their delays, started by the first delayed restart.
+     */
+    private static final class Restarts {
+
+        private static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "Jector-Supervisor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            /* Cancelled restarts are removed rather than kept until their delays elapse */
+            SCHEDULER.setRemoveOnCancelPolicy(true);
+        }
+    }
 }
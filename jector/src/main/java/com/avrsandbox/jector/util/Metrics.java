@@ -0,0 +1,160 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.util;
+
+import com.avrsandbox.jector.core.metrics.ExecutorMetrics;
+import com.avrsandbox.jector.core.metrics.TaskMetrics;
+import com.avrsandbox.jector.core.work.TaskExecutor;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.WorkerTask;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Provides quick-use utilities to query the execution metrics of the tasks and their executors, and to
+ * expose them as JMX MXBeans (the JMX utilities are not available on Android).
+ *
+ * @author pavl_g
+ */
+public final class Metrics {
+
+    /**
+     * The JMX domain of the registered MXBeans.
+     */
+    public static final String DOMAIN = "com.avrsandbox.jector";
+
+    private Metrics() {
+    }
+
+    /**
+     * Retrieves the execution metrics of a worker task.
+     *
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor holding the task (non-nullable)
+     * @param task the name of the task (usually the name of the worker method) (non-nullable)
+     * @return the metrics of the task (non-nullable)
+     * @throws IllegalStateException if the worker-task is not found
+     */
+    public static TaskMetrics getTaskMetrics(TaskExecutorsManager taskExecutorsManager,
+                                             String executor,
+                                             String task) {
+        return Tasks.getWorkerTask(taskExecutorsManager, executor, task).getMetrics();
+    }
+
+    /**
+     * Retrieves the busy and idle time metrics of a task executor.
+     *
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor (non-nullable)
+     * @return the metrics of the executor (non-nullable)
+     * @throws IllegalStateException if the task-executor is not found, or if it doesn't record metrics
+     */
+    public static ExecutorMetrics getExecutorMetrics(TaskExecutorsManager taskExecutorsManager,
+                                                     String executor) {
+        final ExecutorMetrics metrics = Tasks.getTaskExecutorFromTaskBinder(taskExecutorsManager, executor).getMetrics();
+        if (metrics == null) {
+            throw new IllegalStateException(executor + " TaskExecutor doesn't record metrics!");
+        }
+        return metrics;
+    }
+
+    /**
+     * Registers the metrics of the registered executors and their bound tasks to the platform MBean server,
+     * under the names "com.avrsandbox.jector:type=TaskExecutor,name=[executor]" and
+     * "com.avrsandbox.jector:type=WorkerTask,executor=[executor],name=[task]", previously registered
+     * metrics under the same names are replaced.
+     *
+     * <p> Register the metrics after binding the tasks, tasks bound afterwards are not registered.
+     *
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @throws IllegalStateException if the MXBeans cannot be registered
+     */
+    public static void registerMBeans(TaskExecutorsManager taskExecutorsManager) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (Map.Entry<String, TaskExecutor> executor : taskExecutorsManager.getTaskExecutors().entrySet()) {
+                final ExecutorMetrics metrics = executor.getValue().getMetrics();
+                if (metrics != null) {
+                    register(server, metrics, getObjectName(executor.getKey()));
+                }
+                for (Map.Entry<String, WorkerTask> task : executor.getValue().getTasks().entrySet()) {
+                    register(server, task.getValue().getMetrics(), getObjectName(executor.getKey(), task.getKey()));
+                }
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the jector MXBeans!", e);
+        }
+    }
+
+    /**
+     * Unregisters the metrics of the registered executors and their bound tasks from the platform MBean server.
+     *
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @throws IllegalStateException if the MXBeans cannot be unregistered
+     */
+    public static void unregisterMBeans(TaskExecutorsManager taskExecutorsManager) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (Map.Entry<String, TaskExecutor> executor : taskExecutorsManager.getTaskExecutors().entrySet()) {
+                unregister(server, getObjectName(executor.getKey()));
+                for (String task : executor.getValue().getTasks().keySet()) {
+                    unregister(server, getObjectName(executor.getKey(), task));
+                }
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister the jector MXBeans!", e);
+        }
+    }
+
+    private static void register(MBeanServer server, Object mbean, ObjectName name) throws JMException {
+        unregister(server, name);
+        server.registerMBean(mbean, name);
+    }
+
+    private static void unregister(MBeanServer server, ObjectName name) throws JMException {
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    private static ObjectName getObjectName(String executor) throws JMException {
+        return new ObjectName(DOMAIN + ":type=TaskExecutor,name=" + ObjectName.quote(executor));
+    }
+
+    private static ObjectName getObjectName(String executor, String task) throws JMException {
+        return new ObjectName(DOMAIN + ":type=WorkerTask,executor=" + ObjectName.quote(executor)
+                + ",name=" + ObjectName.quote(task));
+    }
+}
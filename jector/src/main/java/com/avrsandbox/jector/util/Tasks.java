@@ -31,9 +31,15 @@
 
 package com.avrsandbox.jector.util;
 
+import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.work.ResultChannel;
 import com.avrsandbox.jector.core.work.TaskExecutorsManager;
 import com.avrsandbox.jector.core.work.TaskExecutor;
+import com.avrsandbox.jector.core.work.TaskRegistry;
 import com.avrsandbox.jector.core.work.WorkerTask;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides quick-use utilities for the jector framework.
@@ -86,6 +92,31 @@ public final class Tasks {
         return workerTask;
     }
 
+    /**
+     * Retrieves a worker task by its stable id from its task-executor object (which is registered to
+     * a task-manager), the id of a task is retrieved via {@link WorkerTask#getTaskId()}.
+     *
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor holding the task to retrieve (non-nullable)
+     * @param taskId the id of the task to retrieve
+     * @return the worker task registered under this id (non-nullable)
+     * @throws IllegalStateException if the task-executor doesn't hold a {@link TaskRegistry},
+     *                               or if the worker-task to retrieve is not found
+     */
+    public static WorkerTask getWorkerTask(TaskExecutorsManager taskExecutorsManager,
+                                           String executor,
+                                           int taskId) {
+        final Map<String, WorkerTask> tasks = getTaskExecutorFromTaskBinder(taskExecutorsManager, executor).getTasks();
+        if (!(tasks instanceof TaskRegistry)) {
+            throw new IllegalStateException(executor + " TaskExecutor doesn't support task ids!");
+        }
+        final WorkerTask workerTask = ((TaskRegistry) tasks).get(taskId);
+        if (workerTask == null) {
+            throw new IllegalStateException("#" + taskId + " WorkerTask is not found!");
+        }
+        return workerTask;
+    }
+
     /**
      * Retrieves a worker task return value from its task-executor object (which is registered to
      * a task-manager).
@@ -101,4 +132,138 @@ public final class Tasks {
                                             String task) {
         return (T) getWorkerTask(taskExecutorsManager, executor, task).getResult();
     }
+
+    /**
+     * Retrieves a worker task return value checked against a type from its task-executor object
+     * (which is registered to a task-manager).
+     *
+     * @param <T> the type of the return value
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor holding the task to retrieve (non-nullable)
+     * @param task the name of the task to retrieve (usually the name of the worker method) (non-nullable)
+     * @param type the expected type of the return value, the wrapper type for primitive values (non-nullable)
+     * @return the return value of the retrieved task from its executor (nullable)
+     * @throws IllegalStateException if the worker-task to retrieve is not found
+     * @throws ClassCastException if the return value is not of the expected type
+     */
+    public static <T> T getWorkerTaskResult(TaskExecutorsManager taskExecutorsManager,
+                                            String executor,
+                                            String task,
+                                            Class<T> type) {
+        return getWorkerTask(taskExecutorsManager, executor, task).getResult(type);
+    }
+
+    /**
+     * Attaches a new result channel to a worker task, streaming the return values of its subsequent runs, use
+     * the channel to consume all the return values instead of polling {@link Tasks#getWorkerTaskResult(TaskExecutorsManager, String, String, Class)}.
+     *
+     * @param <T> the type of the return values
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor holding the task (non-nullable)
+     * @param task the name of the task (usually the name of the worker method) (non-nullable)
+     * @param type the type of the return values, the wrapper type for primitive values (non-nullable)
+     * @param capacity the minimum number of return values held by the channel (positive)
+     * @param policy the behavior of the channel when it's full (non-nullable)
+     * @return the attached result channel
+     * @throws IllegalStateException if the worker-task is not found
+     * @throws IllegalArgumentException if the results of the task are never of the specified type
+     */
+    public static <T> ResultChannel<T> openResultChannel(TaskExecutorsManager taskExecutorsManager,
+                                                         String executor,
+                                                         String task,
+                                                         Class<T> type,
+                                                         int capacity,
+                                                         ResultChannel.OverflowPolicy policy) {
+        final ResultChannel<T> resultChannel = new ResultChannel<>(type, capacity, policy);
+        getWorkerTask(taskExecutorsManager, executor, task).setResultChannel(resultChannel);
+        return resultChannel;
+    }
+
+    /**
+     * Activates a worker task and retrieves a future completed by the return value of its next run,
+     * use the future to continue on the result instead of polling {@link Tasks#getWorkerTaskResult(TaskExecutorsManager, String, String)}.
+     *
+     * @param <T> a method generic to avoid further dynamic casting
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor holding the task to activate (non-nullable)
+     * @param task the name of the task to activate (usually the name of the worker method) (non-nullable)
+     * @return a future completed by the return value of the next run of the task
+     * @throws IllegalStateException if the worker-task to activate is not found
+     */
+    public static <T> CompletableFuture<T> submit(TaskExecutorsManager taskExecutorsManager,
+                                                  String executor,
+                                                  String task) {
+        return (CompletableFuture<T>) (CompletableFuture<?>) getWorkerTask(taskExecutorsManager, executor, task).submit();
+    }
+
+    /**
+     * Activates a worker task with its own arguments, the arguments reach the run serving this
+     * activation in place of the arguments passed on binding.
+     *
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor holding the task to activate (non-nullable)
+     * @param task the name of the task to activate (usually the name of the worker method) (non-nullable)
+     * @param arguments the arguments of this activation (non-nullable)
+     * @throws IllegalStateException if the worker-task to activate is not found
+     * @throws IllegalArgumentException if the arguments are null, or if the task method doesn't accept them
+     */
+    public static void activate(TaskExecutorsManager taskExecutorsManager,
+                                String executor,
+                                String task,
+                                MethodArguments arguments) {
+        getWorkerTask(taskExecutorsManager, executor, task).activate(arguments);
+    }
+
+    /**
+     * Activates a worker task with its own arguments and retrieves a future completed by the return
+     * value of the run serving this activation.
+     *
+     * @param <T> a method generic to avoid further dynamic casting
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor holding the task to activate (non-nullable)
+     * @param task the name of the task to activate (usually the name of the worker method) (non-nullable)
+     * @param arguments the arguments of this activation (non-nullable)
+     * @return a future completed by the return value of the run consuming the arguments
+     * @throws IllegalStateException if the worker-task to activate is not found
+     * @throws IllegalArgumentException if the arguments are null, or if the task method doesn't accept them
+     */
+    public static <T> CompletableFuture<T> submit(TaskExecutorsManager taskExecutorsManager,
+                                                  String executor,
+                                                  String task,
+                                                  MethodArguments arguments) {
+        return (CompletableFuture<T>) (CompletableFuture<?>) getWorkerTask(taskExecutorsManager, executor, task).submit(arguments);
+    }
+
+    /**
+     * Posts a one-shot command to run on a registered task executor.
+     *
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor to run the command (non-nullable)
+     * @param command the command to run (non-nullable)
+     * @throws IllegalStateException if the task-executor is not found
+     * @throws java.util.concurrent.RejectedExecutionException if the task-executor is terminated
+     */
+    public static void post(TaskExecutorsManager taskExecutorsManager,
+                            String executor,
+                            Runnable command) {
+        getTaskExecutorFromTaskBinder(taskExecutorsManager, executor).post(command);
+    }
+
+    /**
+     * Posts a one-shot command to run on a registered task executor, retrieving a future completed
+     * by the return value of the command.
+     *
+     * @param <T> the type of the return value
+     * @param taskExecutorsManager the manager instance holding the TaskExecutors (non-nullable)
+     * @param executor the represented executor to run the command (non-nullable)
+     * @param command the command to run (non-nullable)
+     * @return a future completed by the return value of the command
+     * @throws IllegalStateException if the task-executor is not found
+     * @throws java.util.concurrent.RejectedExecutionException if the task-executor is terminated
+     */
+    public static <T> CompletableFuture<T> submit(TaskExecutorsManager taskExecutorsManager,
+                                                  String executor,
+                                                  Callable<T> command) {
+        return getTaskExecutorFromTaskBinder(taskExecutorsManager, executor).submit(command);
+    }
 }
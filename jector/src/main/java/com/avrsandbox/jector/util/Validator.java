@@ -56,8 +56,20 @@ public final class Validator {
      * @throws IllegalArgumentException if the validation fails to meet the criterion
      */
     public static void validateParametersLength(Method method, int length) throws IllegalArgumentException {
-        if (method.getParameters().length != length) {
-            throw new IllegalArgumentException(method.getName() + "(...) parameters count must be " + length);
+        validateParametersLength(method.getName(), method.getParameterTypes(), length);
+    }
+
+    /**
+     * Validates precomputed parameter types of a method against a particular length.
+     *
+     * @param name the name of the method to validate its parameters
+     * @param parameterTypes the parameter types of the method
+     * @param length the number to validate against
+     * @throws IllegalArgumentException if the validation fails to meet the criterion
+     */
+    public static void validateParametersLength(String name, Class<?>[] parameterTypes, int length) throws IllegalArgumentException {
+        if (parameterTypes.length != length) {
+            throw new IllegalArgumentException(name + "(...) parameters count must be " + length);
         }
     }
 
@@ -71,17 +83,51 @@ public final class Validator {
      * @throws IllegalArgumentException if the indexed method parameter is not of class-type 'validator'
      */
     public static void validateParameterType(Method method, int paramIndex, Class<?> validator) throws IllegalArgumentException {
+        validateParameterType(method.getName(), method.getParameterTypes(), paramIndex, validator);
+    }
+
+    /**
+     * Validates a precomputed parameter type of a method against a particular type, namely 'validator' exiting
+     * without a validation error if this method is a non-parameterized.
+     *
+     * @param name the name of the method to validate its parameter type
+     * @param parameterTypes the parameter types of the method
+     * @param paramIndex the index of the method parameter to be validated
+     * @param validator the type to validate against
+     * @throws IllegalArgumentException if the indexed method parameter is not of class-type 'validator'
+     */
+    public static void validateParameterType(String name, Class<?>[] parameterTypes, int paramIndex, Class<?> validator) throws IllegalArgumentException {
         /* Exiting without validation error if method is a non-parameterized method */
-        if (method.getParameters().length < 1) {
+        if (parameterTypes.length < 1) {
             return;
         }
-        if (!method.getParameters()[paramIndex].getType()
-                        .isAssignableFrom(validator)) {
-            throw new IllegalArgumentException(method.getName() + "(...) parameter[" + paramIndex +
+        if (!parameterTypes[paramIndex].isAssignableFrom(validator)) {
+            throw new IllegalArgumentException(name + "(...) parameter[" + paramIndex +
                                                      "] is not of " + validator.getName() + " Type!");
         }
     }
 
+    /**
+     * Validates the precomputed signature of an annotated worker method, the method should be of the
+     * signatures [Object method(MethodArguments, TaskExecutorsManager)] or [Object method(TaskExecutorsManager)].
+     *
+     * @param name the name of the method to validate
+     * @param parameterTypes the parameter types of the method
+     * @param argumentsType the type of the method arguments to be passed to the method
+     * @param managerType the type of the task-executors manager to be passed to the method
+     * @throws IllegalArgumentException if the method signature doesn't accept the specified types
+     */
+    public static void validateWorkerMethod(String name, Class<?>[] parameterTypes, Class<?> argumentsType,
+                                            Class<?> managerType) throws IllegalArgumentException {
+        if (parameterTypes.length == 1) {
+            validateParameterType(name, parameterTypes, 0, managerType);
+            return;
+        }
+        validateParametersLength(name, parameterTypes, 2);
+        validateParameterType(name, parameterTypes, 0, argumentsType);
+        validateParameterType(name, parameterTypes, 1, managerType);
+    }
+
     /**
      * Validates the number of the arguments of a parameterized methods.
      * 
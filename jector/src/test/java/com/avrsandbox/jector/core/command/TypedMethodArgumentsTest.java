@@ -0,0 +1,120 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import com.avrsandbox.jector.core.thread.AppThread;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.Worker;
+import com.avrsandbox.jector.util.Tasks;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link TypedMethodArguments} and the slots declared by the worker methods.
+ *
+ * @author pavl_g
+ */
+public class TypedMethodArgumentsTest {
+
+    /**
+     * A worker reading its arguments by their declared slots.
+     */
+    public static class SlotWorker implements Worker {
+
+        @ExecuteOn(executors = "app", slots = {"dt", "count"})
+        public float step(TypedMethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args.getFloat(0) * args.getInt(1);
+        }
+    }
+
+    @Test
+    public void typedArgumentsAllocateNoMapUnlessRetrieved() {
+        final TypedMethodArguments arguments = new TypedMethodArguments(new ArgumentLayout("dt"));
+        /* The deferred map is a shared read-only placeholder until retrieved */
+        assertTrue(arguments.args.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> arguments.args.put("dt", 0f));
+        final Map<String, Object> args = arguments.getArgs();
+        args.put("dt", 0f);
+        assertSame(args, arguments.getArgs());
+        assertNull(new MethodArguments(null).getArgs());
+    }
+
+    @Test
+    public void slotsKeepTheirPrimitiveValues() {
+        final ArgumentLayout layout = new ArgumentLayout("i", "l", "f", "d", "b", "o");
+        final TypedMethodArguments arguments = new TypedMethodArguments(layout);
+        arguments.setInt(layout.getSlot("i"), -7);
+        arguments.setLong(layout.getSlot("l"), Long.MIN_VALUE);
+        arguments.setFloat(layout.getSlot("f"), -0.5f);
+        arguments.setDouble(layout.getSlot("d"), Math.PI);
+        arguments.setBoolean(layout.getSlot("b"), true);
+        arguments.setObject(layout.getSlot("o"), "ref");
+        assertEquals(-7, arguments.getInt(0));
+        assertEquals(Long.MIN_VALUE, arguments.getLong(1));
+        assertEquals(-0.5f, arguments.getFloat(2));
+        assertEquals(Math.PI, arguments.getDouble(3));
+        assertTrue(arguments.getBoolean(4));
+        assertEquals("ref", arguments.<String>getObject(5));
+        arguments.clear();
+        assertEquals(0, arguments.getInt(0));
+        assertNull(arguments.getObject(5));
+    }
+
+    @Test
+    public void declaredSlotsAreResolvedOnceAndValidatedOnBind() throws Exception {
+        final TaskExecutorsManager manager = new TaskExecutorsManager(new SlotWorker());
+        final AppThread appThread = new AppThread("Slots-Test");
+        appThread.setDaemon(true);
+        manager.registerTaskExecutor("app", appThread);
+        appThread.setActive(true);
+        try {
+            final TypedMethodArguments mismatched = new TypedMethodArguments(new ArgumentLayout("count", "dt"));
+            assertThrows(IllegalArgumentException.class, () -> manager.bind(mismatched));
+
+            final TypedMethodArguments arguments = new TypedMethodArguments(new ArgumentLayout("dt", "count"));
+            arguments.setFloat(0, 0.5f);
+            arguments.setInt(1, 6);
+            manager.bind(arguments);
+            final Object result = Tasks.getWorkerTask(manager, "app", "step").submit().get(5, TimeUnit.SECONDS);
+            assertEquals(3f, result);
+        } finally {
+            manager.shutdownNow();
+            assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.command;
+
+import com.avrsandbox.jector.core.thread.AppThread;
+import com.avrsandbox.jector.core.work.TaskExecutorsManager;
+import com.avrsandbox.jector.core.work.Worker;
+import com.avrsandbox.jector.core.work.WorkerTask;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the descriptors resolved once per worker class by the {@link WorkerMethods}.
+ *
+ * @author pavl_g
+ */
+public class WorkerMethodsTest {
+
+    /**
+     * A worker of a parameterized and a nullary method.
+     */
+    public static class EntityWorker implements Worker {
+
+        @ExecuteOn(executors = "app")
+        public Object update(MethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return args.getArgs().get("id");
+        }
+
+        @ExecuteOn(executors = "app", priority = 2)
+        public void render(TaskExecutorsManager taskExecutorsManager) {
+        }
+    }
+
+    /**
+     * A worker inheriting the annotated methods of its super-class.
+     */
+    public static class DerivedWorker extends EntityWorker {
+
+        @ExecuteOn(executors = "app")
+        public Object derived(TaskExecutorsManager taskExecutorsManager) {
+            return null;
+        }
+    }
+
+    /**
+     * A worker of an invalid method signature.
+     */
+    public static class InvalidWorker implements Worker {
+
+        @ExecuteOn(executors = "app")
+        public Object invalid(MethodArguments args, TaskExecutorsManager taskExecutorsManager, int extra) {
+            return null;
+        }
+    }
+
+    /**
+     * A worker accepting typed arguments only.
+     */
+    public static class TypedWorker implements Worker {
+
+        @ExecuteOn(executors = "app")
+        public Object typed(TypedMethodArguments args, TaskExecutorsManager taskExecutorsManager) {
+            return null;
+        }
+    }
+
+    @Test
+    public void descriptorsAreBuiltOncePerClass() {
+        final List<MethodDescriptor> descriptors = WorkerMethods.getMethodDescriptors(EntityWorker.class);
+        assertSame(descriptors, WorkerMethods.getMethodDescriptors(EntityWorker.class));
+        assertEquals(2, descriptors.size());
+        for (MethodDescriptor descriptor : descriptors) {
+            assertTrue(descriptor.getInvoker() instanceof MethodHandleInvoker);
+        }
+        final List<MethodDescriptor> derived = WorkerMethods.getMethodDescriptors(DerivedWorker.class);
+        assertEquals(3, derived.size());
+        assertEquals("derived", derived.get(0).getName());
+    }
+
+    @Test
+    public void invalidSignatureFailsEveryDescription() {
+        assertThrows(IllegalArgumentException.class, () -> WorkerMethods.getMethodDescriptors(InvalidWorker.class));
+        assertThrows(IllegalArgumentException.class, () -> WorkerMethods.getMethodDescriptors(InvalidWorker.class));
+    }
+
+    @Test
+    public void bindingManyWorkersSharesTheirDescriptors() throws Exception {
+        final EntityWorker[] workers = {new EntityWorker(), new EntityWorker(), new EntityWorker()};
+        final TaskExecutorsManager first = new TaskExecutorsManager(workers[0]);
+        final TaskExecutorsManager second = new TaskExecutorsManager(workers[1]);
+        final AppThread firstThread = new AppThread("Describe-First");
+        final AppThread secondThread = new AppThread("Describe-Second");
+        firstThread.setDaemon(true);
+        secondThread.setDaemon(true);
+        try {
+            first.registerTaskExecutor("app", firstThread);
+            second.registerTaskExecutor("app", secondThread);
+            first.bind(new MethodArguments());
+            second.bind(new MethodArguments());
+            final WorkerTask firstTask = first.getTaskExecutors().get("app").getTasks().get("update");
+            final WorkerTask secondTask = second.getTaskExecutors().get("app").getTasks().get("update");
+            assertSame(firstTask.getDescriptor(), secondTask.getDescriptor());
+            assertTrue(WorkerMethods.getMethodDescriptors(EntityWorker.class).contains(firstTask.getDescriptor()));
+            assertSame(firstTask.getDescriptor().getInvoker(), secondTask.getDescriptor().getInvoker());
+        } finally {
+            first.shutdownNow();
+            second.shutdownNow();
+            assertTrue(first.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(second.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void cachedDescriptorsAreValidatedOnEachBind() throws Exception {
+        final TaskExecutorsManager manager = new TaskExecutorsManager(new TypedWorker());
+        final AppThread appThread = new AppThread("Describe-Typed");
+        appThread.setDaemon(true);
+        try {
+            manager.registerTaskExecutor("app", appThread);
+            assertThrows(IllegalArgumentException.class, () -> manager.bind(new MethodArguments()));
+            manager.bind(new TypedMethodArguments(new ArgumentLayout("any")));
+            assertTrue(manager.getTaskExecutors().get("app").getTasks().containsKey("typed"));
+        } finally {
+            manager.shutdownNow();
+            assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+}
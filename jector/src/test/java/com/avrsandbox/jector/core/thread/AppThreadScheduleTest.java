@@ -0,0 +1,110 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import com.avrsandbox.jector.core.work.WorkerTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the periodic runs of the tasks scheduled on an {@link AppThread}.
+ *
+ * @author pavl_g
+ */
+public class AppThreadScheduleTest {
+
+    private static WorkerTask createTask(AtomicInteger runs) {
+        return new WorkerTask() {
+            @Override
+            public Object call() {
+                return runs.incrementAndGet();
+            }
+        };
+    }
+
+    private static AppThread createAppThread(String name) {
+        final AppThread appThread = new AppThread(name);
+        appThread.setDaemon(true);
+        return appThread;
+    }
+
+    @Test
+    public void scheduledRunServesThePendingActivation() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final AppThread appThread = createAppThread("Scheduled-Activated");
+        final WorkerTask task = createTask(runs);
+        appThread.addTask("task", task);
+        try {
+            appThread.scheduleWithFixedDelay("task", 0, 1, TimeUnit.HOURS);
+            /* Activated by the same pass running the due schedule */
+            appThread.post(() -> task.setActive(true));
+            appThread.setActive(true);
+            appThread.start();
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (runs.get() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(50);
+            assertEquals(1, runs.get());
+        } finally {
+            appThread.shutdownNow(null);
+            assertTrue(appThread.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void cancelledScheduleLeavesTheDeadlineHeap() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final AppThread appThread = createAppThread("Scheduled-Cancelled");
+        appThread.addTask("task", createTask(runs));
+        appThread.setActive(true);
+        appThread.start();
+        try {
+            final Schedule first = appThread.scheduleAtFixedRate("task", 1, 1, TimeUnit.HOURS);
+            final Schedule second = appThread.scheduleAtFixedRate("task", 2, 1, TimeUnit.HOURS);
+            assertEquals(2, appThread.submit(appThread.schedules::size).get(5, TimeUnit.SECONDS));
+            first.cancel();
+            first.cancel();
+            assertEquals(1, appThread.submit(appThread.schedules::size).get(5, TimeUnit.SECONDS));
+            assertEquals(second, appThread.submit(appThread.schedules::peek).get(5, TimeUnit.SECONDS));
+            second.cancel();
+            assertEquals(0, appThread.submit(appThread.schedules::size).get(5, TimeUnit.SECONDS));
+            assertEquals(0, runs.get());
+        } finally {
+            appThread.shutdownNow(null);
+            assertTrue(appThread.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the parking periods of the {@link BackoffIdleStrategy}.
+ *
+ * @author pavl_g
+ */
+public class BackoffIdleStrategyTest {
+
+    private static final long DEADLINE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    public void parksUntilDeadlineOnceBackedOff() {
+        final BackoffIdleStrategy strategy = new BackoffIdleStrategy(1, 1, 1_000, 1_000_000);
+        strategy.idle(0, DEADLINE_NANOS);
+        strategy.idle(0, DEADLINE_NANOS);
+        final long start = System.nanoTime();
+        strategy.idle(0, DEADLINE_NANOS);
+        final long parked = System.nanoTime() - start;
+        /* Spurious wake ups are allowed, but a capped park would return after 1 ms */
+        assertTrue(parked >= DEADLINE_NANOS / 2, "Parked for " + parked + " ns only");
+    }
+
+    @Test
+    public void parkUntilDeadlineIsWokenUpBySignal() throws Exception {
+        final BackoffIdleStrategy strategy = new BackoffIdleStrategy(0, 0, 1_000, 1_000_000);
+        final long[] parked = new long[1];
+        final Thread thread = new Thread(() -> {
+            final long start = System.nanoTime();
+            strategy.idle(0, TimeUnit.SECONDS.toNanos(30));
+            parked[0] = System.nanoTime() - start;
+        });
+        thread.start();
+        Thread.sleep(50);
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        assertTrue(!thread.isAlive() && parked[0] < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void parkWithoutDeadlineIsBoundedByMaximumPeriod() {
+        final BackoffIdleStrategy strategy = new BackoffIdleStrategy(0, 0, 1_000, 1_000_000);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            strategy.idle(0);
+        }
+        /* 20 parks of at most 1 ms each, with a generous margin for the scheduler */
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,105 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.core.command.ArgumentLayout;
+import com.avrsandbox.jector.core.command.BatchArguments;
+import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.command.MethodDescriptor;
+import com.avrsandbox.jector.core.command.TypedMethodArguments;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the validation of the activation arguments against the method mapped to a {@link WorkerTask}.
+ *
+ * @author pavl_g
+ */
+public class ActivationArgumentsTest {
+
+    private static WorkerTask createTask(Class<?> argumentsType, ArgumentLayout layout) {
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() {
+                return pollArguments(null);
+            }
+        };
+        task.setDescriptor(new MethodDescriptor("method", new String[] {"executor"},
+                new Class<?>[] {argumentsType, TaskExecutorsManager.class}, Object.class,
+                (worker, args, manager) -> args, 0, 0, MethodDescriptor.DEFAULT_MAX_BATCH_SIZE, layout));
+        return task;
+    }
+
+    @Test
+    public void mismatchedArgumentsTypeFailsTheCaller() {
+        final WorkerTask task = createTask(TypedMethodArguments.class, null);
+        assertThrows(IllegalArgumentException.class, () -> task.activate(new MethodArguments()));
+        assertThrows(IllegalArgumentException.class, () -> task.submit(new MethodArguments()));
+        /* Rejected activations are never queued */
+        assertFalse(task.isActive());
+        assertFalse(task.hasPendingWork());
+
+        task.activate(new TypedMethodArguments(new ArgumentLayout("any")));
+        assertTrue(task.isActive());
+    }
+
+    @Test
+    public void mismatchedLayoutFailsTheCaller() {
+        final WorkerTask task = createTask(TypedMethodArguments.class, new ArgumentLayout("dt", "count"));
+        assertThrows(IllegalArgumentException.class,
+                () -> task.submit(new TypedMethodArguments(new ArgumentLayout("count", "dt"))));
+        assertFalse(task.isActive());
+        assertDoesNotThrow(() -> task.submit(new TypedMethodArguments(new ArgumentLayout("dt", "count"))));
+    }
+
+    @Test
+    public void batchMethodsAcceptAnyArguments() {
+        final WorkerTask task = createTask(BatchArguments.class, null);
+        assertDoesNotThrow(() -> task.activate(new MethodArguments()));
+        assertDoesNotThrow(() -> task.activate(new TypedMethodArguments(new ArgumentLayout("any"))));
+    }
+
+    @Test
+    public void tasksWithoutDescriptorAcceptAnyArguments() {
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() {
+                return pollArguments(null);
+            }
+        };
+        assertDoesNotThrow(() -> task.activate(new MethodArguments()));
+        assertThrows(IllegalArgumentException.class, () -> task.activate(null));
+    }
+}
@@ -0,0 +1,226 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the marks of the {@link ActiveSet} under concurrent activations.
+ *
+ * @author pavl_g
+ */
+public class ActiveSetTest {
+
+    private static WorkerTask createTask() {
+        return new WorkerTask() {
+            @Override
+            public Object call() {
+                return null;
+            }
+        };
+    }
+
+    private static ActiveSet createSet(int length) {
+        final TaskRegistry registry = new TaskRegistry();
+        for (int index = 0; index < length; index++) {
+            registry.put("task-" + index, createTask());
+        }
+        return registry.getActiveSet();
+    }
+
+    @Test
+    public void marksAreFoundAcrossWords() {
+        final ActiveSet activeSet = createSet(200);
+        final int[] marked = {0, 63, 64, 130, 199};
+        for (int index : marked) {
+            activeSet.mark(index);
+        }
+        int found = 0;
+        for (int index = activeSet.nextMarked(0, 200); index >= 0; index = activeSet.nextMarked(index + 1, 200)) {
+            assertEquals(marked[found++], index);
+        }
+        assertEquals(marked.length, found);
+        /* The range end is exclusive */
+        assertEquals(-1, activeSet.nextMarked(131, 199));
+        assertEquals(63, activeSet.nextMarked(1, 65));
+        assertEquals(64, activeSet.nextMarked(64, 65));
+        assertEquals(-1, activeSet.nextMarked(1, 63));
+        assertEquals(-1, activeSet.nextMarked(5, 5));
+
+        assertTrue(activeSet.clear(64));
+        assertFalse(activeSet.clear(64));
+        assertEquals(130, activeSet.nextMarked(64, 200));
+    }
+
+    @Test
+    public void tasksOutsideTheSnapshotAreIgnored() {
+        final TaskRegistry registry = new TaskRegistry();
+        final WorkerTask first = createTask();
+        registry.put("first", first);
+        registry.put("second", createTask());
+        final ActiveSet activeSet = registry.getActiveSet();
+
+        /* A stranger sharing the id of a registered task */
+        final WorkerTask stranger = createTask();
+        stranger.setTaskId(first.getTaskId());
+        activeSet.mark(stranger);
+        stranger.setTaskId(10);
+        activeSet.mark(stranger);
+        assertEquals(-1, activeSet.nextMarked(0, 2));
+
+        activeSet.mark(first);
+        assertSame(first, activeSet.getTasks()[activeSet.nextMarked(0, 2)]);
+        assertEquals(-1, ActiveSet.EMPTY.nextMarked(0, 0));
+    }
+
+    @Test
+    public void activationsMarkTheCurrentSnapshot() {
+        final TaskRegistry registry = new TaskRegistry();
+        final WorkerTask early = createTask();
+        registry.put("early", early);
+        early.setActive(true);
+        assertEquals(0, registry.getActiveSet().nextMarked(0, 1));
+
+        /* A publication carries the activations over to the new set */
+        final WorkerTask late = createTask();
+        late.setPriority(1);
+        registry.put("late", late);
+        final ActiveSet activeSet = registry.getActiveSet();
+        assertSame(late, activeSet.getTasks()[0]);
+        assertEquals(1, activeSet.nextMarked(0, 2));
+        late.setActive(true);
+        assertEquals(0, activeSet.nextMarked(0, 2));
+    }
+
+    @Test
+    public void concurrentMarksOfSharedWordsAreNotLost() throws Exception {
+        final int threads = 8;
+        final int length = 512;
+        final int rounds = 200;
+        final ActiveSet activeSet = createSet(length);
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                final CountDownLatch done = new CountDownLatch(threads);
+                final CountDownLatch go = round == 0 ? start : new CountDownLatch(0);
+                for (int thread = 0; thread < threads; thread++) {
+                    final int offset = thread;
+                    service.execute(() -> {
+                        try {
+                            go.await();
+                            /* Interleaves the threads on the bits of every word */
+                            for (int index = offset; index < length; index += threads) {
+                                activeSet.mark(index);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                start.countDown();
+                assertTrue(done.await(10, TimeUnit.SECONDS));
+                for (int index = 0; index < length; index++) {
+                    assertTrue(activeSet.clear(index), "Lost the mark of " + index);
+                }
+                assertEquals(-1, activeSet.nextMarked(0, length));
+            }
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    public void clearingBeforeConsumingLosesNoActivation() throws Exception {
+        final int producers = 4;
+        final int length = 130;
+        final int activations = 20_000;
+        final ActiveSet activeSet = createSet(length);
+        final AtomicIntegerArray pending = new AtomicIntegerArray(length);
+        final AtomicBoolean producing = new AtomicBoolean(true);
+        final ExecutorService service = Executors.newFixedThreadPool(producers + 1);
+        try {
+            final Future<Long> consumer = service.submit(() -> {
+                long consumed = 0;
+                boolean last = false;
+                while (true) {
+                    /* A final pass after the producers are done collects the remaining marks */
+                    final boolean finalPass = !producing.get();
+                    for (int index = activeSet.nextMarked(0, length); index >= 0;
+                         index = activeSet.nextMarked(index + 1, length)) {
+                        /* Clears the mark before consuming, as the executors do */
+                        activeSet.clear(index);
+                        consumed += pending.getAndSet(index, 0);
+                    }
+                    if (last) {
+                        return consumed;
+                    }
+                    last = finalPass;
+                }
+            });
+            final Future<?>[] futures = new Future<?>[producers];
+            for (int producer = 0; producer < producers; producer++) {
+                final int seed = producer;
+                futures[producer] = service.submit(() -> {
+                    for (int i = 0; i < activations; i++) {
+                        final int index = (i * 31 + seed * 17) % length;
+                        pending.incrementAndGet(index);
+                        activeSet.mark(index);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            producing.set(false);
+            assertEquals((long) producers * activations, consumer.get(10, TimeUnit.SECONDS));
+            for (int index = 0; index < length; index++) {
+                assertEquals(0, pending.get(index));
+            }
+        } finally {
+            service.shutdownNow();
+        }
+    }
+}
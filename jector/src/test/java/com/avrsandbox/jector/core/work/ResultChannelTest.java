@@ -0,0 +1,254 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.core.command.MethodDescriptor;
+import com.avrsandbox.jector.core.error.ErrorSink;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the ring of the {@link ResultChannel} and the streaming of the task results.
+ *
+ * @author pavl_g
+ */
+public class ResultChannelTest {
+
+    @Test
+    public void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(2, new ResultChannel<>(Integer.class, 1, ResultChannel.OverflowPolicy.BLOCK).getCapacity());
+        assertEquals(8, new ResultChannel<>(Integer.class, 5, ResultChannel.OverflowPolicy.BLOCK).getCapacity());
+        assertEquals(8, new ResultChannel<>(Integer.class, 8, ResultChannel.OverflowPolicy.BLOCK).getCapacity());
+    }
+
+    @Test
+    public void resultsKeepTheirOrderAcrossManyLaps() {
+        final ResultChannel<Integer> channel = new ResultChannel<>(Integer.class, 4, ResultChannel.OverflowPolicy.BLOCK);
+        int next = 0;
+        int expected = 0;
+        /* Alternates partial fills and drains, so that the cursors wrap around the ring at every offset */
+        for (int lap = 0; lap < 1000; lap++) {
+            final int fill = 1 + lap % channel.getCapacity();
+            for (int i = 0; i < fill; i++) {
+                assertTrue(channel.tryOffer(next++));
+            }
+            assertEquals(fill, channel.size());
+            Integer result;
+            while ((result = channel.poll()) != null) {
+                assertEquals(expected++, result);
+            }
+            assertTrue(channel.isEmpty());
+        }
+        assertEquals(next, expected);
+    }
+
+    @Test
+    public void fullChannelRejectsTryOffer() {
+        final ResultChannel<Integer> channel = new ResultChannel<>(Integer.class, 2, ResultChannel.OverflowPolicy.BLOCK);
+        assertTrue(channel.tryOffer(1));
+        assertTrue(channel.tryOffer(2));
+        assertFalse(channel.tryOffer(3));
+        assertEquals(1, channel.poll());
+        assertTrue(channel.tryOffer(3));
+        assertEquals(2, channel.poll());
+        assertEquals(3, channel.poll());
+        assertNull(channel.poll());
+    }
+
+    @Test
+    public void dropOldestKeepsTheLatestResults() {
+        final ResultChannel<Integer> channel = new ResultChannel<>(Integer.class, 4, ResultChannel.OverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(channel.offer(i));
+        }
+        assertEquals(6, channel.getDropped());
+        final List<Integer> results = new CopyOnWriteArrayList<>();
+        assertEquals(4, channel.drain(results::add, Integer.MAX_VALUE));
+        assertEquals(List.of(6, 7, 8, 9), results);
+    }
+
+    @Test
+    public void offerChecksTheResultType() {
+        final ResultChannel<Integer> channel = new ResultChannel<>(Integer.class, 2, ResultChannel.OverflowPolicy.BLOCK);
+        assertFalse(channel.offer(null));
+        assertThrows(ClassCastException.class, () -> channel.offer("text"));
+        assertTrue(channel.isEmpty());
+    }
+
+    @Test
+    public void blockingChannelDeliversEveryResultOfConcurrentProducers() throws Exception {
+        final int producers = 4;
+        final int consumers = 2;
+        final int perProducer = 50_000;
+        final ResultChannel<Long> channel = new ResultChannel<>(Long.class, 16, ResultChannel.OverflowPolicy.BLOCK);
+        final ExecutorService service = Executors.newFixedThreadPool(producers + consumers);
+        final AtomicLong consumed = new AtomicLong();
+        final AtomicLong sum = new AtomicLong();
+        final long[][] lastSequences = new long[consumers][producers];
+        final CountDownLatch produced = new CountDownLatch(producers);
+        try {
+            for (int producer = 0; producer < producers; producer++) {
+                final long id = producer;
+                service.execute(() -> {
+                    for (long sequence = 0; sequence < perProducer; sequence++) {
+                        channel.offer(sequence * producers + id);
+                    }
+                    produced.countDown();
+                });
+            }
+            final Future<?>[] futures = new Future<?>[consumers];
+            for (int consumer = 0; consumer < consumers; consumer++) {
+                final long[] last = lastSequences[consumer];
+                Arrays.fill(last, -1);
+                futures[consumer] = service.submit(() -> {
+                    while (produced.getCount() > 0 || !channel.isEmpty()) {
+                        final Long result = channel.poll();
+                        if (result == null) {
+                            Thread.onSpinWait();
+                            continue;
+                        }
+                        /* Each consumer observes the results of a producer in their offering order */
+                        final int producer = (int) (result % producers);
+                        final long sequence = result / producers;
+                        assertTrue(sequence > last[producer]);
+                        last[producer] = sequence;
+                        sum.addAndGet(result);
+                        consumed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdownNow();
+        }
+        final long total = (long) producers * perProducer;
+        assertEquals(total, consumed.get());
+        assertEquals(total * (total - 1) / 2, sum.get());
+        assertEquals(0, channel.getDropped());
+    }
+
+    @Test
+    public void taskRejectsChannelOfUnrelatedType() {
+        final WorkerTask task = createTask(int.class);
+        assertThrows(IllegalArgumentException.class,
+                () -> task.setResultChannel(new ResultChannel<>(String.class, 2, ResultChannel.OverflowPolicy.BLOCK)));
+        task.setResultChannel(new ResultChannel<>(Integer.class, 2, ResultChannel.OverflowPolicy.BLOCK));
+        task.setResultChannel(new ResultChannel<>(Number.class, 2, ResultChannel.OverflowPolicy.BLOCK));
+    }
+
+    @Test
+    public void rejectedResultIsReportedAfterFuturesComplete() throws Exception {
+        final WorkerTask task = createTask(Object.class);
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final ErrorSink errorSink = (source, error) -> errors.add(error);
+        task.setTaskExecutor(new TaskExecutor() {
+            @Override
+            public ErrorSink getErrorSink() {
+                return errorSink;
+            }
+
+            @Override
+            public void executeTasks(Object arguments) {
+            }
+
+            @Override
+            public void post(Runnable command) {
+                command.run();
+            }
+
+            @Override
+            public Map<String, WorkerTask> getTasks() {
+                return Collections.emptyMap();
+            }
+
+            @Override
+            public void startExecutorService(TaskExecutorsManager taskExecutorsManager) {
+            }
+
+            @Override
+            public void destructExecutorService(TaskExecutorsManager taskExecutorsManager) {
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return false;
+            }
+
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+
+            @Override
+            public void setActive(boolean active) {
+            }
+        });
+        /* The method returns objects, the channel of integers accepts some of them only */
+        task.setResultChannel(new ResultChannel<>(Integer.class, 2, ResultChannel.OverflowPolicy.BLOCK));
+        final CompletableFuture<Object> future = task.submit();
+        task.execute();
+        assertEquals("result", future.get(1, TimeUnit.SECONDS));
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof ClassCastException);
+    }
+
+    private static WorkerTask createTask(Class<?> returnType) {
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() {
+                return "result";
+            }
+        };
+        task.setDescriptor(new MethodDescriptor("method", new String[] {"executor"},
+                new Class<?>[] {TaskExecutorsManager.class}, returnType, (worker, args, manager) -> null));
+        return task;
+    }
+}
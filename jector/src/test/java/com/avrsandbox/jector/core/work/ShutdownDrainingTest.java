@@ -0,0 +1,222 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.core.command.ExecuteOn;
+import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.thread.AppThread;
+import com.avrsandbox.jector.core.thread.ForkJoinTaskExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the pending activations served by an orderly shutdown, and cancelled by an immediate shutdown
+ * of the executors of a {@link TaskExecutorsManager}.
+ *
+ * @author pavl_g
+ */
+public class ShutdownDrainingTest {
+
+    private static final int ACTIVATIONS = 50;
+
+    /**
+     * A worker recording the ids of its activations, its first run blocks until it's released.
+     */
+    public static class RecordingWorker implements Worker {
+
+        private final Queue<Object> records = new ConcurrentLinkedQueue<>();
+        private final CountDownLatch running = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        public RecordingWorker(boolean blocking) {
+            this.release = new CountDownLatch(blocking ? 1 : 0);
+        }
+
+        @ExecuteOn(executors = "executor")
+        public Object record(MethodArguments args, TaskExecutorsManager taskExecutorsManager) throws InterruptedException {
+            running.countDown();
+            release.await();
+            final Object id = args.getArgs().get("id");
+            records.add(id);
+            return id;
+        }
+    }
+
+    private static MethodArguments createArguments(int id) {
+        final MethodArguments arguments = new MethodArguments();
+        arguments.getArgs().put("id", id);
+        return arguments;
+    }
+
+    private static TaskExecutorsManager createManager(RecordingWorker worker, TaskExecutor executor) {
+        final TaskExecutorsManager manager = new TaskExecutorsManager(worker);
+        if (executor instanceof AppThread) {
+            ((AppThread) executor).setDaemon(true);
+        }
+        manager.registerTaskExecutor("executor", executor);
+        manager.bind(new MethodArguments());
+        executor.setActive(true);
+        return manager;
+    }
+
+    private static List<CompletableFuture<Object>> submit(TaskExecutor executor) {
+        final WorkerTask task = executor.getTasks().get("record");
+        final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int id = 0; id < ACTIVATIONS; id++) {
+            futures.add(task.submit(createArguments(id)));
+        }
+        return futures;
+    }
+
+    private static void assertDrained(RecordingWorker worker, TaskExecutor executor, TaskExecutorsManager manager,
+                                      List<CompletableFuture<Object>> futures) throws Exception {
+        manager.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.post(() -> { }));
+        /* Released after the shutdown, so that the activations are still pending while shutting down */
+        worker.release.countDown();
+        assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertTrue(manager.getTerminatingExecutors().isEmpty());
+        for (int id = 0; id < ACTIVATIONS; id++) {
+            assertEquals(id, futures.get(id).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(ACTIVATIONS, worker.records.size());
+    }
+
+    private static void assertCancelled(RecordingWorker worker, TaskExecutor executor, TaskExecutorsManager manager,
+                                        List<CompletableFuture<Object>> futures) throws Exception {
+        assertTrue(worker.running.await(5, TimeUnit.SECONDS));
+        manager.shutdownNow();
+        /* The run in progress completes after the shutdown */
+        worker.release.countDown();
+        assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        int cancelled = 0;
+        for (CompletableFuture<Object> future : futures) {
+            assertTrue(future.isDone());
+            if (future.isCompletedExceptionally()) {
+                assertTrue(future.isCancelled());
+                assertThrows(CancellationException.class, future::get);
+                cancelled++;
+            }
+        }
+        /* Only the run in progress completes its activation */
+        assertEquals(1, worker.records.size());
+        assertEquals(worker.records.peek(), futures.get(0).get());
+        assertEquals(ACTIVATIONS - 1, cancelled);
+        assertFalse(executor.getTasks().containsKey("record"));
+    }
+
+    @Test
+    public void shutdownServesThePendingActivationsOnAppThread() throws Exception {
+        final RecordingWorker worker = new RecordingWorker(true);
+        final AppThread appThread = new AppThread("Draining-App");
+        final TaskExecutorsManager manager = createManager(worker, appThread);
+        try {
+            final List<CompletableFuture<Object>> futures = submit(appThread);
+            assertDrained(worker, appThread, manager, futures);
+            /* A single thread serves the activations in their order */
+            final List<Object> expected = new ArrayList<>();
+            for (int id = 0; id < ACTIVATIONS; id++) {
+                expected.add(id);
+            }
+            assertEquals(expected, new ArrayList<>(worker.records));
+        } finally {
+            manager.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shutdownServesThePendingActivationsOnForkJoinPool() throws Exception {
+        final RecordingWorker worker = new RecordingWorker(true);
+        final ForkJoinTaskExecutor executor = new ForkJoinTaskExecutor(2);
+        final TaskExecutorsManager manager = createManager(worker, executor);
+        try {
+            assertDrained(worker, executor, manager, submit(executor));
+            assertTrue(executor.getPool().isTerminated());
+        } finally {
+            manager.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shutdownNowCancelsThePendingActivationsOnAppThread() throws Exception {
+        final RecordingWorker worker = new RecordingWorker(true);
+        final AppThread appThread = new AppThread("Cancelling-App");
+        final TaskExecutorsManager manager = createManager(worker, appThread);
+        assertCancelled(worker, appThread, manager, submit(appThread));
+    }
+
+    @Test
+    public void shutdownNowCancelsThePendingActivationsOnForkJoinPool() throws Exception {
+        final RecordingWorker worker = new RecordingWorker(true);
+        final ForkJoinTaskExecutor executor = new ForkJoinTaskExecutor(2);
+        final TaskExecutorsManager manager = createManager(worker, executor);
+        assertCancelled(worker, executor, manager, submit(executor));
+    }
+
+    @Test
+    public void stragglersAreTrackedUntilTheyTerminate() throws Exception {
+        final RecordingWorker worker = new RecordingWorker(true);
+        final AppThread appThread = new AppThread("Straggling-App");
+        final TaskExecutorsManager manager = createManager(worker, appThread);
+        final List<Throwable> reported = new ArrayList<>();
+        manager.setErrorSink((source, error) -> reported.add(error));
+        try {
+            final List<CompletableFuture<Object>> futures = submit(appThread);
+            assertTrue(worker.running.await(5, TimeUnit.SECONDS));
+            manager.shutdown();
+            assertFalse(manager.awaitTermination(50, TimeUnit.MILLISECONDS));
+            assertEquals(List.of("executor"), manager.getTerminatingExecutors());
+            assertEquals(1, reported.size());
+
+            worker.release.countDown();
+            assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(manager.getTerminatingExecutors().isEmpty());
+            assertEquals(ACTIVATIONS - 1, futures.get(ACTIVATIONS - 1).get(5, TimeUnit.SECONDS));
+        } finally {
+            manager.shutdownNow();
+        }
+    }
+}
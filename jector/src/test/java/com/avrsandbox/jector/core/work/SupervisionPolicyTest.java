@@ -0,0 +1,359 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.core.command.ExecuteOn;
+import com.avrsandbox.jector.core.command.MethodArguments;
+import com.avrsandbox.jector.core.thread.AppThread;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the directives applied to the failed runs of a {@link WorkerTask} by its {@link SupervisionPolicy}.
+ *
+ * @author pavl_g
+ */
+public class SupervisionPolicyTest {
+
+    /**
+     * A task consuming an activation per run, failing its runs until it's healed.
+     */
+    private static final class FailingTask extends WorkerTask {
+
+        private final AtomicInteger runs = new AtomicInteger();
+        private volatile boolean healed;
+
+        @Override
+        public Object call() throws Exception {
+            final MethodArguments arguments = pollArguments(null);
+            runs.incrementAndGet();
+            if (!healed) {
+                throw new IllegalStateException("Failed run!");
+            }
+            return arguments != null ? arguments.getArgs().get("id") : null;
+        }
+
+        /**
+         * Runs this task as the executors do, deactivating it first.
+         *
+         * @return the failure of the run, or null if the run has completed
+         */
+        private Exception run() {
+            setActive(false);
+            try {
+                execute();
+                return null;
+            } catch (Exception e) {
+                return e;
+            }
+        }
+    }
+
+    /**
+     * A worker of methods failing with throwables other than exceptions.
+     */
+    public static class ThrowingWorker implements Worker {
+
+        @ExecuteOn(executors = "app")
+        public Object overflow(TaskExecutorsManager taskExecutorsManager) {
+            throw new StackOverflowError();
+        }
+
+        @ExecuteOn(executors = "app")
+        public Object checked(TaskExecutorsManager taskExecutorsManager) throws Throwable {
+            throw new Throwable("Checked throwable!");
+        }
+    }
+
+    private static MethodArguments createArguments(int id) {
+        final MethodArguments arguments = new MethodArguments();
+        arguments.getArgs().put("id", id);
+        return arguments;
+    }
+
+    private static boolean awaitActive(WorkerTask task) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!task.isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return task.isActive();
+    }
+
+    private static Throwable getCause(CompletableFuture<Object> future) {
+        return assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS)).getCause();
+    }
+
+    @Test
+    public void backoffDelaysDoubleUpToTheMaximum() {
+        final BackoffSupervisionPolicy policy = new BackoffSupervisionPolicy(10, 10, 100, TimeUnit.MILLISECONDS, null);
+        final long[] expected = {10, 20, 40, 80, 100, 100};
+        for (int failures = 1; failures <= expected.length; failures++) {
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(expected[failures - 1]), policy.getRestartDelay(null, failures));
+        }
+        /* The shift is guarded against overflowing */
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.getRestartDelay(null, 200));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.getRestartDelay(null, Integer.MAX_VALUE));
+        /* The default policy backs off from the minimum delay */
+        final BackoffSupervisionPolicy defaults = new BackoffSupervisionPolicy(3);
+        assertEquals(SupervisionPolicy.MIN_RESTART_DELAY_NANOS, defaults.getRestartDelay(null, 1));
+        assertEquals(SupervisionPolicy.MIN_RESTART_DELAY_NANOS << 2, defaults.getRestartDelay(null, 3));
+        assertEquals(BackoffSupervisionPolicy.DEFAULT_MAX_DELAY_NANOS, defaults.getRestartDelay(null, 100));
+
+        assertThrows(IllegalArgumentException.class, () -> new BackoffSupervisionPolicy(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BackoffSupervisionPolicy(1, 0, 5, TimeUnit.MILLISECONDS, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BackoffSupervisionPolicy(1, 10, 5, TimeUnit.MILLISECONDS, null));
+    }
+
+    @Test
+    public void restartsAreBoundedThenEscalated() throws Exception {
+        final List<Integer> escalated = new ArrayList<>();
+        final FailingTask task = new FailingTask();
+        task.setSupervisionPolicy(new BackoffSupervisionPolicy(2, 1, 1, TimeUnit.MILLISECONDS,
+                (failed, error, failures) -> {
+                    assertSame(task, failed);
+                    escalated.add(failures);
+                }));
+        final CompletableFuture<Object> first = task.submit(createArguments(1));
+        final CompletableFuture<Object> second = task.submit(createArguments(2));
+        final CompletableFuture<Object> third = task.submit(createArguments(3));
+        final CompletableFuture<Object> fourth = task.submit(createArguments(4));
+
+        /* Restarted after the back-off while the restarts aren't exhausted */
+        assertSame(IllegalStateException.class, task.run().getClass());
+        assertTrue(awaitActive(task));
+        assertEquals(1, task.getFailures());
+        assertSame(IllegalStateException.class, getCause(first).getClass());
+        task.run();
+        assertEquals(2, task.getFailures());
+        assertTrue(awaitActive(task));
+        assertTrue(escalated.isEmpty());
+
+        final Exception error = task.run();
+        assertFalse(task.isActive());
+        assertEquals(List.of(3), escalated);
+        assertSame(error, getCause(third));
+        /* The pending activations fail with the failure deactivating the task */
+        assertSame(error, getCause(fourth));
+        assertTrue(second.isCompletedExceptionally());
+        assertFalse(task.hasPendingWork());
+    }
+
+    @Test
+    public void delayedRestartActivatesTheTaskAfterItsDelay() throws Exception {
+        final long delay = TimeUnit.MILLISECONDS.toNanos(50);
+        final FailingTask task = new FailingTask();
+        task.setSupervisionPolicy(new BackoffSupervisionPolicy(5, delay, delay, TimeUnit.NANOSECONDS, null));
+        task.setActive(true);
+
+        final long startTime = System.nanoTime();
+        task.run();
+        assertFalse(task.isActive());
+        final long deadline = startTime + TimeUnit.SECONDS.toNanos(5);
+        while (!task.isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(task.isActive());
+        assertTrue(System.nanoTime() - startTime >= delay);
+        assertEquals(1, task.getFailures());
+    }
+
+    @Test
+    public void restartIsNeverInline() throws Exception {
+        final FailingTask task = new FailingTask();
+        /* Restarts with the default delay, raised to the minimum delay */
+        task.setSupervisionPolicy((failed, error, failures) -> SupervisionPolicy.Directive.RESTART);
+        task.setActive(true);
+        final long startTime = System.nanoTime();
+        task.run();
+        /* Re-activated by the scheduled restart rather than by the failed run */
+        final ScheduledFuture<?> restart = task.restart;
+        assertNotNull(restart);
+        assertTrue(awaitActive(task));
+        assertTrue(System.nanoTime() - startTime >= SupervisionPolicy.MIN_RESTART_DELAY_NANOS);
+
+        task.setSupervisionPolicy(new SupervisionPolicy() {
+            @Override
+            public Directive onFailure(WorkerTask task, Throwable error, int failures) {
+                return Directive.RESTART;
+            }
+
+            @Override
+            public long getRestartDelay(WorkerTask task, int failures) {
+                return 0;
+            }
+        });
+        task.run();
+        assertNotSame(restart, task.restart);
+        assertTrue(awaitActive(task));
+    }
+
+    @Test
+    public void delayedRestartIsSkippedOnceTheTaskRunsAgain() throws Exception {
+        final long delay = TimeUnit.MILLISECONDS.toNanos(100);
+        final FailingTask task = new FailingTask();
+        task.setSupervisionPolicy(new BackoffSupervisionPolicy(5, delay, delay, TimeUnit.NANOSECONDS, null));
+        task.setActive(true);
+        task.run();
+        assertFalse(task.isActive());
+
+        /* Runs again before the restart is due, e.g. activated by another task */
+        task.healed = true;
+        assertNull(task.run());
+        assertEquals(0, task.getFailures());
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(delay) * 3);
+        assertFalse(task.isActive());
+        assertEquals(2, task.runs.get());
+    }
+
+    @Test
+    public void cancelledTaskIsNotRestarted() throws Exception {
+        final long delay = TimeUnit.MILLISECONDS.toNanos(50);
+        final FailingTask task = new FailingTask();
+        task.setSupervisionPolicy(new BackoffSupervisionPolicy(5, delay, delay, TimeUnit.NANOSECONDS, null));
+        task.setActive(true);
+        task.run();
+        assertFalse(task.restart.isDone());
+
+        task.cancel();
+        assertTrue(task.restart.isCancelled());
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(delay) * 3);
+        assertFalse(task.isActive());
+    }
+
+    @Test
+    public void terminatedExecutorCancelsTheRestarts() throws Exception {
+        final long delay = TimeUnit.MILLISECONDS.toNanos(50);
+        final FailingTask task = new FailingTask();
+        task.setSupervisionPolicy(new BackoffSupervisionPolicy(5, delay, delay, TimeUnit.NANOSECONDS, null));
+        final AppThread appThread = new AppThread("Supervised-App");
+        appThread.setDaemon(true);
+        appThread.setErrorSink((source, error) -> { });
+        appThread.addTask("failing", task);
+        appThread.setActive(true);
+        appThread.start();
+        task.setActive(true);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (task.restart == null && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        final ScheduledFuture<?> restart = task.restart;
+        appThread.shutdownNow(null);
+        assertTrue(appThread.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(restart.isCancelled());
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(delay) * 3);
+        assertFalse(task.isActive());
+        assertEquals(1, task.runs.get());
+    }
+
+    @Test
+    public void errorsPropagateUnsupervised() throws Exception {
+        final TaskExecutorsManager manager = new TaskExecutorsManager(new ThrowingWorker());
+        manager.setSupervisionPolicy(new BackoffSupervisionPolicy(5));
+        final AppThread appThread = new AppThread("Throwing-App");
+        appThread.setDaemon(true);
+        try {
+            manager.registerTaskExecutor("app", appThread);
+            manager.bind(null);
+            /* The executor is inactive, the tasks are run by this thread */
+            final WorkerTask overflow = appThread.getTasks().get("overflow");
+            final CompletableFuture<Object> overflowed = overflow.submit();
+            assertThrows(StackOverflowError.class, overflow::execute);
+            assertSame(StackOverflowError.class, getCause(overflowed).getClass());
+            assertEquals(0, overflow.getFailures());
+            assertNull(overflow.restart);
+
+            final WorkerTask checked = appThread.getTasks().get("checked");
+            final Exception error = assertThrows(ExecutionException.class, checked::execute);
+            assertEquals("Checked throwable!", error.getCause().getMessage());
+            assertEquals(1, checked.getFailures());
+        } finally {
+            manager.shutdownNow();
+            assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void resumeKeepsThePendingActivationsAndResetsTheFailures() throws Exception {
+        final FailingTask task = new FailingTask();
+        final CompletableFuture<Object> failed = task.submit(createArguments(1));
+        final CompletableFuture<Object> second = task.submit(createArguments(2));
+        final CompletableFuture<Object> third = task.submit(createArguments(3));
+
+        task.run();
+        assertEquals(1, task.getFailures());
+        assertSame(IllegalStateException.class, getCause(failed).getClass());
+        /* The pending activations keep the task active */
+        assertTrue(task.isActive());
+        assertFalse(second.isDone());
+
+        task.healed = true;
+        task.run();
+        assertEquals(0, task.getFailures());
+        assertEquals(2, second.get(5, TimeUnit.SECONDS));
+        assertTrue(task.isActive());
+        task.run();
+        assertEquals(3, third.get(5, TimeUnit.SECONDS));
+        assertFalse(task.isActive());
+    }
+
+    @Test
+    public void deactivateFailsThePendingActivations() throws Exception {
+        final FailingTask task = new FailingTask();
+        task.setSupervisionPolicy(SupervisionPolicy.DEACTIVATE);
+        final CompletableFuture<Object> served = task.submit(createArguments(1));
+        final CompletableFuture<Object> pending = task.submit(createArguments(2));
+        final CompletableFuture<Object> awaiting = task.submit();
+
+        final Exception error = task.run();
+        assertFalse(task.isActive());
+        assertEquals(1, task.runs.get());
+        assertSame(error, getCause(served));
+        assertSame(error, getCause(pending));
+        assertSame(error, getCause(awaiting));
+    }
+}
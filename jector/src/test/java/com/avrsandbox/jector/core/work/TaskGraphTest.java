@@ -0,0 +1,218 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.core.command.ExecuteOn;
+import com.avrsandbox.jector.core.thread.AppThread;
+import com.avrsandbox.jector.util.Tasks;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the dependencies of the tasks executed by a {@link TaskGraph} across executors.
+ *
+ * @author pavl_g
+ */
+public class TaskGraphTest {
+
+    private static final String LOADER = "loader";
+    private static final String APP = "app";
+
+    /**
+     * A worker recording the order and the threads of its runs.
+     */
+    public static class SceneWorker implements Worker {
+
+        private final List<String> runs = new CopyOnWriteArrayList<>();
+        private final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+        private Object record(String name) {
+            runs.add(name);
+            threads.put(name, Thread.currentThread());
+            return name;
+        }
+
+        @ExecuteOn(executors = LOADER)
+        public Object setupSky(TaskExecutorsManager taskExecutorsManager) throws InterruptedException {
+            /* Delays the dependency, so that the dependents would run ahead of it if not ordered */
+            Thread.sleep(50);
+            return record("setupSky");
+        }
+
+        @ExecuteOn(executors = LOADER)
+        public Object cacheAsset(TaskExecutorsManager taskExecutorsManager) {
+            return record("cacheAsset");
+        }
+
+        @ExecuteOn(executors = LOADER)
+        public Object failAsset(TaskExecutorsManager taskExecutorsManager) {
+            record("failAsset");
+            throw new IllegalStateException("Failed asset!");
+        }
+
+        @ExecuteOn(executors = APP)
+        public Object setupScene(TaskExecutorsManager taskExecutorsManager) {
+            return record("setupScene");
+        }
+
+        @ExecuteOn(executors = APP)
+        public Object attachAsset(TaskExecutorsManager taskExecutorsManager) {
+            return record("attachAsset");
+        }
+
+        @ExecuteOn(executors = APP)
+        public Object setupCamera(TaskExecutorsManager taskExecutorsManager) {
+            return record("setupCamera");
+        }
+    }
+
+    private SceneWorker worker;
+    private TaskExecutorsManager manager;
+    private AppThread loader;
+    private AppThread app;
+
+    @BeforeEach
+    public void bind() {
+        worker = new SceneWorker();
+        manager = new TaskExecutorsManager(worker);
+        manager.setErrorSink((source, error) -> { });
+        loader = new AppThread("Graph-Loader");
+        app = new AppThread("Graph-App");
+        for (AppThread executor : new AppThread[] {loader, app}) {
+            executor.setDaemon(true);
+            executor.setErrorSink((source, error) -> { });
+        }
+        manager.registerTaskExecutor(LOADER, loader);
+        manager.registerTaskExecutor(APP, app);
+        manager.bind();
+        loader.setActive(true);
+        app.setActive(true);
+    }
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        manager.shutdownNow();
+        assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void dependenciesCompleteBeforeTheirDependents() throws Exception {
+        final TaskGraph graph = new TaskGraph();
+        final TaskGraph.Node sky = graph.addTask(LOADER, "setupSky");
+        final TaskGraph.Node scene = graph.addTask(APP, "setupScene", sky);
+        final TaskGraph.Node asset = graph.addTask(LOADER, "cacheAsset");
+        final TaskGraph.Node attach = graph.addTask(APP, "attachAsset", asset);
+        graph.addTask(APP, "setupCamera", scene, attach);
+
+        graph.execute(manager).get(5, TimeUnit.SECONDS);
+
+        final List<String> runs = worker.runs;
+        assertEquals(5, runs.size());
+        assertTrue(runs.indexOf("setupSky") < runs.indexOf("setupScene"));
+        assertTrue(runs.indexOf("cacheAsset") < runs.indexOf("attachAsset"));
+        assertTrue(runs.indexOf("setupScene") < runs.indexOf("setupCamera"));
+        assertTrue(runs.indexOf("attachAsset") < runs.indexOf("setupCamera"));
+        /* Each task runs on its own executor */
+        assertSame(loader, worker.threads.get("setupSky"));
+        assertSame(app, worker.threads.get("setupScene"));
+        assertSame(app, worker.threads.get("setupCamera"));
+        assertEquals("setupCamera", Tasks.getWorkerTaskResult(manager, APP, "setupCamera"));
+
+        /* Each graph execution runs each task once */
+        worker.runs.clear();
+        graph.execute(manager).get(5, TimeUnit.SECONDS);
+        assertEquals(5, worker.runs.size());
+    }
+
+    @Test
+    public void dependentsOfAFailedTaskAreSkipped() throws Exception {
+        final TaskGraph graph = new TaskGraph();
+        final TaskGraph.Node failed = graph.addTask(LOADER, "failAsset");
+        final TaskGraph.Node attach = graph.addTask(APP, "attachAsset", failed);
+        graph.addTask(APP, "setupCamera", attach);
+        final TaskGraph.Node sky = graph.addTask(LOADER, "setupSky");
+        graph.addTask(APP, "setupScene", sky);
+
+        final CompletableFuture<Void> future = graph.execute(manager);
+        final ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException, error::toString);
+
+        /* The independent branch completes regardless of the failure */
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!worker.runs.contains("setupScene") && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(worker.runs.contains("setupScene"));
+        assertTrue(worker.runs.contains("failAsset"));
+        assertFalse(worker.runs.contains("attachAsset"));
+        assertFalse(worker.runs.contains("setupCamera"));
+    }
+
+    @Test
+    public void duplicateAndForeignNodesAreRejected() {
+        final TaskGraph graph = new TaskGraph();
+        final TaskGraph.Node sky = graph.addTask(LOADER, "setupSky");
+        assertThrows(IllegalArgumentException.class, () -> graph.addTask(LOADER, "setupSky"));
+        assertThrows(IllegalArgumentException.class, () -> graph.addTask(null, "setupSky"));
+        assertThrows(IllegalArgumentException.class, () -> graph.addTask(APP, null));
+
+        final TaskGraph other = new TaskGraph();
+        final TaskGraph.Node foreign = other.addTask(LOADER, "cacheAsset");
+        assertThrows(IllegalArgumentException.class, () -> graph.addTask(APP, "attachAsset", foreign));
+        assertThrows(IllegalArgumentException.class, () -> graph.addTask(APP, "attachAsset", sky, null));
+        /* The same task on another executor is a distinct node */
+        graph.addTask(APP, "setupSky", sky);
+        assertEquals(2, graph.getNodes().size());
+    }
+
+    @Test
+    public void unknownTasksFailBeforeAnyActivation() {
+        final TaskGraph graph = new TaskGraph();
+        graph.addTask(LOADER, "setupSky");
+        graph.addTask(APP, "missing");
+        assertThrows(IllegalStateException.class, () -> graph.execute(manager));
+        assertFalse(Tasks.getWorkerTask(manager, LOADER, "setupSky").isActive());
+    }
+}
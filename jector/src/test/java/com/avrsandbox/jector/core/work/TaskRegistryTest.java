@@ -0,0 +1,165 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the ids and the scan order assigned by the {@link TaskRegistry}.
+ *
+ * @author pavl_g
+ */
+public class TaskRegistryTest {
+
+    private static WorkerTask createTask(int priority, int order) {
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() {
+                return null;
+            }
+        };
+        task.setPriority(priority);
+        task.setOrder(order);
+        return task;
+    }
+
+    @Test
+    public void snapshotIsSortedByPriorityThenOrderThenId() {
+        final TaskRegistry registry = new TaskRegistry();
+        final WorkerTask low = createTask(0, 0);
+        final WorkerTask lateHigh = createTask(5, 1);
+        final WorkerTask earlyHigh = createTask(5, 1);
+        final WorkerTask firstHigh = createTask(5, 0);
+        final WorkerTask negative = createTask(-1, 0);
+        registry.put("low", low);
+        registry.put("earlyHigh", earlyHigh);
+        registry.put("negative", negative);
+        registry.put("lateHigh", lateHigh);
+        registry.put("firstHigh", firstHigh);
+
+        assertArrayEquals(new WorkerTask[] {firstHigh, earlyHigh, lateHigh, low, negative}, registry.getSnapshot());
+    }
+
+    @Test
+    public void reRegisteringNameKeepsIdAndScanPosition() {
+        final TaskRegistry registry = new TaskRegistry();
+        final WorkerTask first = createTask(0, 0);
+        final WorkerTask second = createTask(0, 0);
+        final WorkerTask third = createTask(0, 0);
+        registry.put("first", first);
+        registry.put("second", second);
+        registry.put("third", third);
+
+        final WorkerTask replacement = createTask(0, 0);
+        assertSame(second, registry.put("second", replacement));
+        assertEquals(1, replacement.getTaskId());
+        assertSame(replacement, registry.get(1));
+        assertArrayEquals(new WorkerTask[] {first, replacement, third}, registry.getSnapshot());
+    }
+
+    @Test
+    public void removedTaskLeavesItsSlotBehind() {
+        final TaskRegistry registry = new TaskRegistry();
+        final WorkerTask first = createTask(0, 0);
+        final WorkerTask second = createTask(0, 0);
+        registry.put("first", first);
+        registry.put("second", second);
+
+        assertSame(first, registry.remove("first"));
+        assertNull(registry.get(0));
+        assertSame(second, registry.get(1));
+        assertArrayEquals(new WorkerTask[] {second}, registry.getSnapshot());
+
+        final WorkerTask third = createTask(0, 0);
+        registry.put("third", third);
+        assertEquals(2, third.getTaskId());
+
+        registry.clear();
+        final WorkerTask fourth = createTask(0, 0);
+        registry.put("fourth", fourth);
+        assertEquals(0, fourth.getTaskId());
+    }
+
+    @Test
+    public void concurrentRegistrationsAssignDistinctIds() throws Exception {
+        final int threads = 8;
+        final int tasksPerThread = 250;
+        final TaskRegistry registry = new TaskRegistry();
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                final int offset = thread * tasksPerThread;
+                service.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < tasksPerThread; i++) {
+                        registry.put("task-" + (offset + i), createTask((offset + i) % 3, 0));
+                    }
+                });
+            }
+            start.countDown();
+            service.shutdown();
+            assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            service.shutdownNow();
+        }
+
+        final WorkerTask[] snapshot = registry.getSnapshot();
+        assertEquals(threads * tasksPerThread, snapshot.length);
+        final Set<Integer> ids = new HashSet<>();
+        for (int index = 0; index < snapshot.length; index++) {
+            final WorkerTask task = snapshot[index];
+            assertTrue(ids.add(task.getTaskId()));
+            assertSame(task, registry.get(task.getTaskId()));
+            if (index > 0) {
+                final WorkerTask previous = snapshot[index - 1];
+                assertTrue(previous.getPriority() > task.getPriority()
+                        || previous.getPriority() == task.getPriority() && previous.getTaskId() < task.getTaskId());
+            }
+        }
+    }
+}
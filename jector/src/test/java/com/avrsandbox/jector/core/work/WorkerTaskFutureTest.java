@@ -0,0 +1,163 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the completion of the futures submitted to a {@link WorkerTask} against its runs.
+ *
+ * @author pavl_g
+ */
+public class WorkerTaskFutureTest {
+
+    @Test
+    public void futureSubmittedDuringRunAwaitsNextRun() throws Exception {
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() throws Exception {
+                final int run = runs.incrementAndGet();
+                if (run == 1) {
+                    running.countDown();
+                    release.await();
+                }
+                return run;
+            }
+        };
+        final CompletableFuture<Object> first = task.submit();
+        task.setActive(false);
+        final CompletableFuture<Object> firstRun = CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.execute();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<Object> second = task.submit();
+        release.countDown();
+        firstRun.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        assertFalse(second.isDone());
+        assertTrue(task.isActive());
+
+        task.setActive(false);
+        task.execute();
+        assertEquals(2, second.get(5, TimeUnit.SECONDS));
+        assertFalse(task.isActive());
+    }
+
+    @Test
+    public void futuresAreCompletedInSubmissionOrder() throws Exception {
+        final StringBuilder order = new StringBuilder();
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() {
+                return "done";
+            }
+        };
+        for (int i = 0; i < 5; i++) {
+            final int index = i;
+            task.submit().thenRun(() -> order.append(index));
+        }
+        task.execute();
+        assertEquals("01234", order.toString());
+    }
+
+    @Test
+    public void futuresAwaitActivationSpreadOverRuns() throws Exception {
+        final AtomicInteger steps = new AtomicInteger();
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() {
+                return steps.incrementAndGet();
+            }
+
+            @Override
+            protected boolean isCompleted() {
+                return steps.get() % 3 == 0;
+            }
+        };
+        final CompletableFuture<Object> first = task.submit();
+        task.execute();
+        /* Submitted while the activation is in progress, served by the next activation */
+        final CompletableFuture<Object> second = task.submit();
+        task.execute();
+        assertFalse(first.isDone());
+        task.execute();
+        assertEquals(3, first.get());
+        assertFalse(second.isDone());
+        task.execute();
+        task.execute();
+        task.execute();
+        assertEquals(6, second.get());
+    }
+
+    @Test
+    public void failedRunCompletesItsFuturesOnly() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final WorkerTask task = new WorkerTask() {
+            @Override
+            public Object call() throws Exception {
+                if (runs.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first run");
+                }
+                return runs.get();
+            }
+        };
+        task.setSupervisionPolicy(SupervisionPolicy.RESUME);
+        final CompletableFuture<Object> first = task.submit();
+        try {
+            task.execute();
+        } catch (IllegalStateException e) {
+            /* Expected, the first run fails */
+        }
+        final ExecutionException error = assertThrows(ExecutionException.class, first::get);
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        final CompletableFuture<Object> second = task.submit();
+        task.execute();
+        assertEquals(2, second.get());
+    }
+}
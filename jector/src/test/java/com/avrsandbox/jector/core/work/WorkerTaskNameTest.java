@@ -0,0 +1,116 @@
+/* 
+* BSD 3-Clause License
+*
+* Copyright (c) 2023, The AvrSandbox Project, Jector Framework
+*
+* Redistribution and use in source and binary forms, with or without
+* modification, are permitted provided that the following conditions are met:
+*
+* 1. Redistributions of source code must retain the above copyright notice, this
+*    list of conditions and the following disclaimer.
+*
+* 2. Redistributions in binary form must reproduce the above copyright notice,
+*    this list of conditions and the following disclaimer in the documentation
+*    and/or other materials provided with the distribution.
+*
+* 3. Neither the name of the copyright holder nor the names of its
+*   contributors may be used to endorse or promote products derived from
+*   this software without specific prior written permission.
+* 
+* THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+* AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+* IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+* DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+* FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+* DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+* CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+* OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+* OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package com.avrsandbox.jector.core.work;
+
+import com.avrsandbox.jector.core.command.ExecuteOn;
+import com.avrsandbox.jector.core.error.AsyncErrorReporter;
+import com.avrsandbox.jector.core.thread.AppThread;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the names and the descriptions of the {@link WorkerTask}s as reported by the executors.
+ *
+ * @author pavl_g
+ */
+public class WorkerTaskNameTest {
+
+    /**
+     * A worker of a failing method.
+     */
+    public static class FailingWorker implements Worker {
+
+        @ExecuteOn(executors = "app")
+        public Object fail(TaskExecutorsManager taskExecutorsManager) {
+            throw new IllegalStateException("Failed run!");
+        }
+    }
+
+    private static WorkerTask createTask() {
+        return new WorkerTask() {
+            @Override
+            public Object call() {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void registeredTasksAreNamed() {
+        final TaskRegistry registry = new TaskRegistry();
+        final WorkerTask task = createTask();
+        assertNull(task.getName());
+        registry.put("update", task);
+        assertEquals("update", task.getName());
+        assertEquals("WorkerTask[" + task.getClass().getName() + "#call(...) as update]", task.toString());
+    }
+
+    @Test
+    public void boundTasksAreDescribedByTheirWorkerMethod() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncErrorReporter reporter = new AsyncErrorReporter(new PrintStream(output, true, StandardCharsets.UTF_8),
+                1, TimeUnit.HOURS, 10, 10);
+        final TaskExecutorsManager manager = new TaskExecutorsManager(new FailingWorker());
+        final AppThread appThread = new AppThread("Named-Tasks");
+        appThread.setDaemon(true);
+        appThread.setErrorSink(reporter);
+        try {
+            manager.registerTaskExecutor("app", appThread);
+            manager.bind(null);
+            final WorkerTask task = appThread.getTasks().get("fail");
+            assertEquals("fail", task.getName());
+            assertSame(FailingWorker.class, task.getWorkerClass());
+            final String description = "WorkerTask[" + FailingWorker.class.getName() + "#fail(...) as fail]";
+            assertEquals(description, task.toString());
+
+            appThread.setActive(true);
+            task.setActive(true);
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (reporter.getFailures() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            reporter.flush();
+            final String report = output.toString(StandardCharsets.UTF_8);
+            assertTrue(report.contains("Jector: " + description + " failed!"), report);
+        } finally {
+            manager.shutdownNow();
+            assertTrue(manager.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+}